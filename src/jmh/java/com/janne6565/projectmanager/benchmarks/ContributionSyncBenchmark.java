@@ -0,0 +1,74 @@
+package com.janne6565.projectmanager.benchmarks;
+
+import com.janne6565.projectmanager.dto.ProjectStatsDto;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.services.ContributionCalendar;
+import com.janne6565.projectmanager.services.ContributionFingerprint;
+import com.janne6565.projectmanager.services.EncodedBody;
+import com.janne6565.projectmanager.services.RepositoryMatcher;
+import com.janne6565.projectmanager.services.external.ContributionSummaryDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** The in-memory part of a sync; {@link ContributionUpdateBenchmark} covers the whole run. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContributionSyncBenchmark {
+
+    @Param({"100", "1000"})
+    int projects;
+
+    @Param({"1000", "10000", "100000"})
+    int repositories;
+
+    private JsonMapper jsonMapper;
+    private ContributionSummaryDecoder decoder;
+    private List<Project> projectList;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        decoder = new ContributionSummaryDecoder(jsonMapper);
+        projectList = SyntheticData.projects(projects);
+        payload = jsonMapper.writeValueAsBytes(SyntheticData.summary(repositories, projects));
+    }
+
+    @Benchmark
+    public void sync(Blackhole blackhole) {
+        RepositoryMatcher matcher = RepositoryMatcher.of(projectList);
+        RepositoryMatcher.Accumulator accumulator = matcher.accumulator();
+        ContributionSummaryDto summary = decoder.decode(new ByteArrayInputStream(payload), accumulator);
+        RepositoryMatcher.MatchResult result = accumulator.result();
+
+        for (Project project : projectList) {
+            List<RepositoryContributionDto> matched = result.contributionsFor(project.getUuid());
+            blackhole.consume(ContributionFingerprint.of(matched));
+            blackhole.consume(ProjectStatsDto.of(project.getUuid(), matched, 5));
+        }
+        blackhole.consume(EncodedBody.of(jsonMapper.writeValueAsBytes(result.unassigned())));
+        blackhole.consume(EncodedBody.of(jsonMapper.writeValueAsBytes(ContributionCalendar.of(summary.calendar()))));
+    }
+}
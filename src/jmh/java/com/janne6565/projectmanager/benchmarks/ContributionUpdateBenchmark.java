@@ -0,0 +1,186 @@
+package com.janne6565.projectmanager.benchmarks;
+
+import com.janne6565.projectmanager.configs.ContributionFetchProperties;
+import com.janne6565.projectmanager.configs.SyncProperties;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectContributionRepository;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import com.janne6565.projectmanager.services.ContributionService;
+import com.janne6565.projectmanager.services.ContributionState;
+import com.janne6565.projectmanager.services.ProjectCache;
+import com.janne6565.projectmanager.services.ProjectContributionService;
+import com.janne6565.projectmanager.services.ProjectReadModel;
+import com.janne6565.projectmanager.services.ResponseBodyEncoder;
+import com.janne6565.projectmanager.services.SyncCoordinator;
+import com.janne6565.projectmanager.services.external.ContributionSummaryDecoder;
+import com.janne6565.projectmanager.services.external.ExternalContributionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/** A whole {@link ContributionService#updateContributions()} run against {@link InMemoryRepositories}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContributionUpdateBenchmark {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Param({"100", "1000"})
+    int projects;
+
+    @Param({"1000", "10000", "100000"})
+    int repositories;
+
+    private ContributionService contributionService;
+    private byte[][] payloads;
+    private long fetches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // every invocation logs the fetch and the write at INFO; keep console output out of the numbers
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(ContributionService.class)).setLevel(ch.qos.logback.classic.Level.WARN);
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        ContributionSummaryDto summary = SyntheticData.summary(repositories, projects);
+        payloads = new byte[][]{
+                jsonMapper.writeValueAsBytes(summary),
+                jsonMapper.writeValueAsBytes(withOneMoreCommit(summary))
+        };
+
+        List<Project> projectList = SyntheticData.projects(projects);
+        InMemoryRepositories store = new InMemoryRepositories(projectList);
+        ProjectRepository projectRepository = store.projectRepository();
+        ProjectContributionRepository projectContributionRepository = store.projectContributionRepository();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(InMemoryRepositories.transactionManager());
+        ResponseBodyEncoder responseBodyEncoder = new ResponseBodyEncoder(jsonMapper);
+        ProjectContributionService projectContributionService = new ProjectContributionService(projectContributionRepository);
+        ContributionFetchProperties fetchProperties = new ContributionFetchProperties();
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://contributions.invalid")
+                .exchangeFunction(request -> Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(chunks(payloads[(int) (fetches++ % payloads.length)]))
+                        .build()))
+                .build();
+
+        contributionService = new ContributionService(
+                new ExternalContributionService(webClient, fetchProperties, Schedulers.immediate(), meterRegistry),
+                projectRepository,
+                transactionTemplate,
+                meterRegistry,
+                new CallerRunsExecutorService(),
+                new ProjectReadModel(projectRepository, responseBodyEncoder, projectContributionService),
+                responseBodyEncoder,
+                fetchProperties,
+                new ContributionSummaryDecoder(jsonMapper),
+                new SyncCoordinator(store.syncStateRepository(), store.contributionSnapshotRepository(),
+                        new SyncProperties(), jsonMapper, transactionTemplate),
+                new ProjectCache(null) {
+                    @Override
+                    public void evictAll() {
+                    }
+                },
+                projectContributionService,
+                store.jdbcTemplate()
+        );
+
+        long before = contributionService.getState().version();
+        contributionService.updateContributions();
+        if (contributionService.getState().version() != before + 1 || store.contributionRows() == 0) {
+            throw new IllegalStateException("updateContributions() did not apply the fetched payload synchronously");
+        }
+    }
+
+    @Benchmark
+    public ContributionState updateContributions() {
+        contributionService.updateContributions();
+        return contributionService.getState();
+    }
+
+    private static ContributionSummaryDto withOneMoreCommit(ContributionSummaryDto summary) {
+        List<RepositoryContributionDto> repositories = new ArrayList<>(summary.repositories().size());
+        for (RepositoryContributionDto repository : summary.repositories()) {
+            repositories.add(new RepositoryContributionDto(repository.url(), repository.name(), repository.commits() + 1,
+                    repository.pullRequests(), repository.issues(), repository.reviews()));
+        }
+        return new ContributionSummaryDto(summary.calendar(), repositories, summary.totals());
+    }
+
+    private static Flux<DataBuffer> chunks(byte[] payload) {
+        List<DataBuffer> buffers = new ArrayList<>(payload.length / CHUNK_SIZE + 1);
+        for (int offset = 0; offset < payload.length; offset += CHUNK_SIZE) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(payload, offset, Math.min(offset + CHUNK_SIZE, payload.length))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    /** Runs the resync work inline, so an invocation ends once the sync is published. */
+    private static final class CallerRunsExecutorService extends AbstractExecutorService {
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
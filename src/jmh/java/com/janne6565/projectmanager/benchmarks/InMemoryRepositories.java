@@ -0,0 +1,158 @@
+package com.janne6565.projectmanager.benchmarks;
+
+import com.janne6565.projectmanager.dto.ProjectSummary;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.entities.ProjectContribution;
+import com.janne6565.projectmanager.entities.ProjectContributionId;
+import com.janne6565.projectmanager.repositories.ContributionSnapshotRepository;
+import com.janne6565.projectmanager.repositories.ProjectContributionRepository;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import com.janne6565.projectmanager.repositories.SyncStateRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/** Map-backed stand-ins for the store a sync touches; anything the sync does not call throws. */
+final class InMemoryRepositories {
+
+    private static final Comparator<ProjectContribution> BY_PROJECT_AND_POSITION = Comparator
+            .comparing((ProjectContribution row) -> row.getId().getProjectUuid())
+            .thenComparingInt(ProjectContribution::getPosition);
+
+    private final Map<String, Project> projects = new LinkedHashMap<>();
+    private final Map<ProjectContributionId, ProjectContribution> contributions = new LinkedHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    InMemoryRepositories(List<Project> projects) {
+        projects.forEach(project -> this.projects.put(project.getUuid(), project));
+    }
+
+    int contributionRows() {
+        return contributions.size();
+    }
+
+    ProjectRepository projectRepository() {
+        return fake(ProjectRepository.class, Map.of(
+                "findAll", args -> new ArrayList<>(projects.values()),
+                "findAllSummaries", args -> projects.values().stream().map(ProjectSummary::of).toList()
+        ));
+    }
+
+    ProjectContributionRepository projectContributionRepository() {
+        return fake(ProjectContributionRepository.class, Map.of(
+                "findByProject", args -> rowsOf(Set.of((String) args[0])),
+                "findByProjects", args -> rowsOf(new HashSet<>((Collection<?>) args[0])),
+                "findAllOrdered", args -> contributions.values().stream().sorted(BY_PROJECT_AND_POSITION).toList(),
+                "saveAll", args -> {
+                    List<ProjectContribution> saved = new ArrayList<>();
+                    for (ProjectContribution row : (Iterable<ProjectContribution>) args[0]) {
+                        contributions.put(row.getId(), row);
+                        saved.add(row);
+                    }
+                    return saved;
+                },
+                "deleteAll", args -> {
+                    for (ProjectContribution row : (Iterable<ProjectContribution>) args[0]) {
+                        contributions.remove(row.getId());
+                    }
+                    return null;
+                }
+        ));
+    }
+
+    SyncStateRepository syncStateRepository() {
+        return fake(SyncStateRepository.class, Map.of(
+                "existsById", args -> true,
+                "tryAcquireLease", args -> 1,
+                "incrementVersion", args -> {
+                    version.incrementAndGet();
+                    return 1;
+                },
+                "findVersion", args -> Optional.of(version.get()),
+                "recordFetch", args -> 1,
+                "findLastFetchedAt", args -> Optional.empty()
+        ));
+    }
+
+    ContributionSnapshotRepository contributionSnapshotRepository() {
+        return fake(ContributionSnapshotRepository.class, Map.of(
+                "save", args -> args[0]
+        ));
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return new JdbcTemplate() {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (!sql.startsWith("update project set contributions_fingerprint")) {
+                    throw new UnsupportedOperationException(sql);
+                }
+                int[] updated = new int[batchArgs.size()];
+                for (int i = 0; i < batchArgs.size(); i++) {
+                    Project project = projects.get((String) batchArgs.get(i)[1]);
+                    if (project != null) {
+                        project.setContributionsFingerprint((String) batchArgs.get(i)[0]);
+                        updated[i] = 1;
+                    }
+                }
+                return updated;
+            }
+        };
+    }
+
+    static PlatformTransactionManager transactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+
+    private List<ProjectContribution> rowsOf(Set<?> projectUuids) {
+        return contributions.values().stream()
+                .filter(row -> projectUuids.contains(row.getId().getProjectUuid()))
+                .sorted(BY_PROJECT_AND_POSITION)
+                .toList();
+    }
+
+    private static <T> T fake(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> "InMemory" + type.getSimpleName();
+                };
+            }
+            Function<Object[], Object> implementation = methods.get(method.getName());
+            if (implementation == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return implementation.apply(args);
+        }));
+    }
+}
@@ -0,0 +1,68 @@
+package com.janne6565.projectmanager.benchmarks;
+
+import com.janne6565.projectmanager.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService cachingService;
+    private JwtService uncachedService;
+    private UserDetails user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachingService = jwtService(1024);
+        uncachedService = jwtService(0);
+        user = User.withUsername("janne").password("unused").roles("ADMIN").build();
+        token = cachingService.generateToken(user);
+    }
+
+    private static JwtService jwtService(int cacheMaxSize) {
+        JwtService service = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "secretKey", SECRET);
+        ReflectionTestUtils.setField(service, "jwtExpiration", TimeUnit.DAYS.toMillis(1));
+        ReflectionTestUtils.setField(service, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return cachingService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public boolean validateUncached() {
+        return uncachedService.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingService.generateToken(user);
+    }
+}
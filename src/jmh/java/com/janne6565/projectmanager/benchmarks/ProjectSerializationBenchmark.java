@@ -0,0 +1,63 @@
+package com.janne6565.projectmanager.benchmarks;
+
+import com.janne6565.projectmanager.dto.ProjectSummary;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.services.EncodedBody;
+import com.janne6565.projectmanager.services.RepositoryMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectSerializationBenchmark {
+
+    @Param({"100", "1000"})
+    int projects;
+
+    private JsonMapper jsonMapper;
+    private List<Project> projectList;
+    private List<ProjectSummary> summaries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        projectList = SyntheticData.projects(projects);
+        RepositoryMatcher.MatchResult result = RepositoryMatcher.of(projectList)
+                .match(SyntheticData.repositories(projects * 10, projects));
+        projectList.forEach(project -> project.setContributions(result.contributionsFor(project.getUuid())));
+        summaries = projectList.stream().map(ProjectSummary::of).toList();
+    }
+
+    @Benchmark
+    public byte[] projectsWithContributions() {
+        return jsonMapper.writeValueAsBytes(projectList);
+    }
+
+    @Benchmark
+    public byte[] projectSummaries() {
+        return jsonMapper.writeValueAsBytes(summaries);
+    }
+
+    @Benchmark
+    public EncodedBody encodeProjects() {
+        return EncodedBody.of(jsonMapper.writeValueAsBytes(projectList));
+    }
+}
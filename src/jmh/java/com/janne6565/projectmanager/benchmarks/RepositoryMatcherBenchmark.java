@@ -0,0 +1,74 @@
+package com.janne6565.projectmanager.benchmarks;
+
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.services.RepositoryMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryMatcherBenchmark {
+
+    @Param({"100", "1000"})
+    int projects;
+
+    @Param({"1000", "10000", "100000"})
+    int repositories;
+
+    private List<Project> projectList;
+    private List<RepositoryContributionDto> repositoryList;
+    private RepositoryMatcher matcher;
+    private String sampleUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        projectList = SyntheticData.projects(projects);
+        repositoryList = SyntheticData.repositories(repositories, projects);
+        matcher = RepositoryMatcher.of(projectList);
+        sampleUrl = repositoryList.get(repositoryList.size() / 2).url();
+    }
+
+    @Benchmark
+    public RepositoryMatcher buildIndex() {
+        return RepositoryMatcher.of(projectList);
+    }
+
+    @Benchmark
+    public RepositoryMatcher.MatchResult matchAll() {
+        return matcher.match(repositoryList);
+    }
+
+    @Benchmark
+    public Set<String> findProjects() {
+        return matcher.findProjects(sampleUrl);
+    }
+
+    @Benchmark
+    public String normalizeRepository() {
+        return RepositoryMatcher.normalizeRepository(sampleUrl);
+    }
+
+    @Benchmark
+    public String convertGlobToRegex() {
+        return RepositoryMatcher.convertGlobToRegex("github.com/org42/*");
+    }
+}
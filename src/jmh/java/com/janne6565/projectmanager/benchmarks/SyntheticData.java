@@ -0,0 +1,79 @@
+package com.janne6565.projectmanager.benchmarks;
+
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionTotalsDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/** Deterministic projects and contribution payloads shaped like production data. */
+final class SyntheticData {
+
+    private static final int EXACT_REPOSITORIES_PER_PROJECT = 3;
+
+    private SyntheticData() {
+    }
+
+    static List<Project> projects(int projectCount) {
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (int p = 0; p < projectCount; p++) {
+            List<String> repositories = new ArrayList<>();
+            for (int r = 0; r < EXACT_REPOSITORIES_PER_PROJECT; r++) {
+                repositories.add("https://github.com/org" + p + "/repo" + r);
+            }
+            if (p % 10 == 0) {
+                repositories.add("github.com/org" + p + "/*");
+            }
+            projects.add(Project.builder()
+                    .uuid("project-" + p)
+                    .index(p + 1)
+                    .name("Project " + p)
+                    .descriptionEn("Synthetic project " + p)
+                    .descriptionDe("Synthetisches Projekt " + p)
+                    .isVisible(true)
+                    .additionalInformation(Map.of("language", "Java"))
+                    .repositories(repositories)
+                    .contributions(new ArrayList<>())
+                    .build());
+        }
+        return projects;
+    }
+
+    static List<RepositoryContributionDto> repositories(int repositoryCount, int projectCount) {
+        Random random = new Random(42);
+        List<RepositoryContributionDto> repositories = new ArrayList<>(repositoryCount);
+        for (int i = 0; i < repositoryCount; i++) {
+            int org = random.nextInt(projectCount * 2);
+            int repo = random.nextInt(EXACT_REPOSITORIES_PER_PROJECT * 2);
+            repositories.add(new RepositoryContributionDto(
+                    "https://github.com/org" + org + "/repo" + repo + (i % 7 == 0 ? "/" : ""),
+                    "repo" + repo,
+                    random.nextInt(500),
+                    random.nextInt(50),
+                    random.nextInt(50),
+                    random.nextInt(50)
+            ));
+        }
+        return repositories;
+    }
+
+    static ContributionSummaryDto summary(int repositoryCount, int projectCount) {
+        Map<String, Integer> calendar = new LinkedHashMap<>();
+        LocalDate day = LocalDate.of(2020, 1, 1);
+        Random random = new Random(7);
+        for (int i = 0; i < 5 * 365; i++) {
+            calendar.put(day.plusDays(i).toString(), random.nextInt(20));
+        }
+        return new ContributionSummaryDto(
+                calendar,
+                repositories(repositoryCount, projectCount),
+                new ContributionTotalsDto(repositoryCount * 10, repositoryCount, repositoryCount, repositoryCount)
+        );
+    }
+}
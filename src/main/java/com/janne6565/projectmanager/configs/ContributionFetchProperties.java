@@ -0,0 +1,25 @@
+package com.janne6565.projectmanager.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "external.contributions")
+public class ContributionFetchProperties {
+    private String url;
+    private Duration connectTimeout = Duration.ofSeconds(5);
+    private Duration responseTimeout = Duration.ofSeconds(30);
+    private Duration fetchTimeout = Duration.ofSeconds(90);
+    private int maxConnections = 4;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    private int maxRetries = 3;
+    private Duration retryBackoff = Duration.ofMillis(500);
+    private Duration maxRetryBackoff = Duration.ofSeconds(10);
+    private boolean hedgingEnabled = false;
+    private Duration hedgeDelay = Duration.ofSeconds(5);
+}
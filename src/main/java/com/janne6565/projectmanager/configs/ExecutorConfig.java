@@ -0,0 +1,38 @@
+package com.janne6565.projectmanager.configs;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/** Executors for contribution work, on virtual threads when {@code spring.threads.virtual.enabled} is set. */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService contributionResyncExecutor() {
+        ThreadFactory threadFactory = virtualThreadsEnabled
+                ? Thread.ofVirtual().name("contribution-resync").factory()
+                : Thread.ofPlatform().name("contribution-resync").daemon(true).factory();
+        return Executors.newSingleThreadExecutor(threadFactory);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler contributionDecodeScheduler() {
+        if (virtualThreadsEnabled) {
+            return Schedulers.fromExecutorService(
+                    Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("contribution-decode-", 0).factory()),
+                    "contribution-decode"
+            );
+        }
+        return Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "contribution-decode");
+    }
+}
@@ -0,0 +1,16 @@
+package com.janne6565.projectmanager.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sync")
+public class SyncProperties {
+    private String nodeId;
+    private Duration leaseDuration = Duration.ofMinutes(5);
+    private Duration pollInterval = Duration.ofSeconds(15);
+}
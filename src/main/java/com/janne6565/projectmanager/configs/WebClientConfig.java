@@ -1,18 +1,38 @@
 package com.janne6565.projectmanager.configs;
 
-import org.springframework.beans.factory.annotation.Value;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebClientConfig {
 
-    @Value("${external.contributions.url}")
-    private String contributionApiUrl;
+    private final ContributionFetchProperties contributionFetchProperties;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider contributionApiConnectionProvider() {
+        return ConnectionProvider.builder("contribution-api")
+                .maxConnections(contributionFetchProperties.getMaxConnections())
+                .pendingAcquireTimeout(contributionFetchProperties.getPendingAcquireTimeout())
+                .maxIdleTime(contributionFetchProperties.getMaxIdleTime())
+                .build();
+    }
 
     @Bean
-    public WebClient contributionApiWebClient() {
-        return WebClient.create(contributionApiUrl);
+    public WebClient contributionApiWebClient(ConnectionProvider contributionApiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(contributionApiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) contributionFetchProperties.getConnectTimeout().toMillis())
+                .responseTimeout(contributionFetchProperties.getResponseTimeout());
+
+        return WebClient.builder()
+                .baseUrl(contributionFetchProperties.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 }
@@ -1,11 +1,17 @@
 package com.janne6565.projectmanager.controllers;
 
-import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.dto.ProjectImportResponse;
 import com.janne6565.projectmanager.services.ProjectService;
+import com.janne6565.projectmanager.services.ProjectTransferService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JacksonException;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -14,13 +20,30 @@ import java.util.List;
 public class AdminProjectController {
 
     private final ProjectService projectService;
+    private final ProjectTransferService projectTransferService;
 
     @GetMapping
-    public ResponseEntity<List<Project>> getAllProjects(@RequestParam(required = false, defaultValue = "true") boolean includeContributions) {
-        List<Project> projects = projectService.getAllProjects().stream().peek(project -> {
-            if (!includeContributions) project.setContributions(null);
-        }).toList();
+    public ResponseEntity<List<?>> getAllProjects(@RequestParam(required = false, defaultValue = "true") boolean includeContributions) {
+        if (!includeContributions) {
+            return ResponseEntity.ok(projectService.getAllProjectSummaries());
+        }
+        return ResponseEntity.ok(projectService.getAllProjects());
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.ndjson\"")
+                .body(projectTransferService::exportProjects);
+    }
 
-        return ResponseEntity.ok(projects);
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<ProjectImportResponse> importProjects(InputStream body) {
+        try {
+            return ResponseEntity.ok(new ProjectImportResponse(projectTransferService.importProjects(body)));
+        } catch (JacksonException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
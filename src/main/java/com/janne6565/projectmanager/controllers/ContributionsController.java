@@ -1,30 +1,73 @@
 package com.janne6565.projectmanager.controllers;
 
-import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
-import com.janne6565.projectmanager.services.ProjectService;
+import com.janne6565.projectmanager.dto.ContributionMetaResponse;
+import com.janne6565.projectmanager.dto.ProjectCommitTotal;
+import com.janne6565.projectmanager.services.ContributionCalendar;
+import com.janne6565.projectmanager.services.ContributionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/contributions")
 public class ContributionsController {
 
-    private final ProjectService projectService;
+    private static final int MAX_TOP_PROJECTS = 100;
+
+    private final ContributionService contributionService;
 
     @GetMapping("/unassigned")
-    public ResponseEntity<List<RepositoryContributionDto>> getUnassignedContributions() {
-        return ResponseEntity.ok(projectService.getUnassignedContributions());
+    public ResponseEntity<byte[]> getUnassignedContributions(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return EncodedResponses.ok(contributionService.getEncodedUnassignedContributions(), acceptEncoding);
+    }
+
+    @GetMapping("/meta")
+    public ResponseEntity<ContributionMetaResponse> getMeta() {
+        return ResponseEntity.ok(contributionService.getMeta());
+    }
+
+    @GetMapping("/owners")
+    public ResponseEntity<List<String>> getRepositoryOwners(@RequestParam String repository) {
+        return ResponseEntity.ok(contributionService.findRepositoryOwners(repository));
+    }
+
+    @GetMapping("/top-projects")
+    public ResponseEntity<List<ProjectCommitTotal>> getTopProjects(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(contributionService.getTopProjectsByCommits(Math.clamp(limit, 1, MAX_TOP_PROJECTS)));
     }
 
     @GetMapping("/calendar")
-    public ResponseEntity<Map<String, Integer>> getCalendar() {
-        return ResponseEntity.ok(projectService.getContributionCalendar());
+    public ResponseEntity<?> getCalendar(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String bucket,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        if (from == null && to == null && bucket == null) {
+            return EncodedResponses.ok(contributionService.getEncodedContributionCalendar(), acceptEncoding);
+        }
+
+        ContributionCalendar.BucketSize bucketSize;
+        try {
+            bucketSize = bucket != null ? ContributionCalendar.BucketSize.parse(bucket) : ContributionCalendar.BucketSize.DAY;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(contributionService.getContributionCalendarRange(from, to, bucketSize));
     }
 }
@@ -1,14 +1,16 @@
 package com.janne6565.projectmanager.controllers;
 
+import com.janne6565.projectmanager.dto.ProjectPage;
+import com.janne6565.projectmanager.dto.ProjectStatsDto;
 import com.janne6565.projectmanager.dto.UpdateIndexRequest;
+import com.janne6565.projectmanager.dto.UpdateOrderRequest;
 import com.janne6565.projectmanager.entities.Project;
 import com.janne6565.projectmanager.services.ProjectService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/projects")
@@ -17,17 +19,44 @@ public class ProjectController {
     private final ProjectService projectService;
 
     @GetMapping
-    public ResponseEntity<List<Project>> getProjects(@RequestParam(required = false, defaultValue = "true") boolean includeContributions) {
-        List<Project> projects = projectService.getProjects().stream().peek(project -> {
-            if (!includeContributions) project.setContributions(null);
-        }).toList();
+    public ResponseEntity<byte[]> getProjects(
+            @RequestParam(required = false, defaultValue = "true") boolean includeContributions,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return EncodedResponses.ok(projectService.getEncodedProjects(includeContributions), acceptEncoding);
+    }
 
-        return ResponseEntity.ok(projects);
+    @GetMapping(params = "limit")
+    public ResponseEntity<ProjectPage<?>> getProjectPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "true") boolean includeContributions
+    ) {
+        try {
+            ProjectPage<?> page = includeContributions
+                    ? projectService.getProjectPage(cursor, limit)
+                    : projectService.getProjectSummaryPage(cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{uuid}")
-    public ResponseEntity<Project> getProjectById(@PathVariable String uuid) {
-        return ResponseEntity.ok(projectService.getProjectById(uuid));
+    public ResponseEntity<byte[]> getProjectById(
+            @PathVariable String uuid,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return EncodedResponses.ok(projectService.getEncodedProjectById(uuid), acceptEncoding);
+    }
+
+    @GetMapping("/{uuid}/stats")
+    public ResponseEntity<ProjectStatsDto> getProjectStats(@PathVariable String uuid) {
+        ProjectStatsDto stats = projectService.getProjectStats(uuid);
+        if (stats == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(stats);
     }
 
     @PostMapping
@@ -50,6 +79,16 @@ public class ProjectController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/order")
+    public ResponseEntity<Void> updateProjectOrder(@RequestBody UpdateOrderRequest request) {
+        try {
+            projectService.updateProjectOrder(request.getUuids());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
     @PatchMapping("/{uuid}/index")
     public ResponseEntity<Project> updateProjectIndex(@PathVariable String uuid, @RequestBody UpdateIndexRequest request) {
         Project updatedProject = projectService.updateProjectIndex(uuid, request.getIndex());
@@ -0,0 +1,18 @@
+package com.janne6565.projectmanager.dto;
+
+import java.util.List;
+
+public record CalendarRangeResponse(
+        String from,
+        String to,
+        String bucket,
+        long total,
+        List<CalendarBucketCount> buckets
+) {
+    public record CalendarBucketCount(
+            String start,
+            String end,
+            long count
+    ) {
+    }
+}
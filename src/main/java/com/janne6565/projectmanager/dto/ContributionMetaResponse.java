@@ -0,0 +1,9 @@
+package com.janne6565.projectmanager.dto;
+
+public record ContributionMetaResponse(
+        String version,
+        String fetchedAt,
+        String lastFetchedAt,
+        Long ageSeconds
+) {
+}
@@ -0,0 +1,8 @@
+package com.janne6565.projectmanager.dto;
+
+public record ProjectCommitTotal(
+        String projectUuid,
+        String name,
+        long commits
+) {
+}
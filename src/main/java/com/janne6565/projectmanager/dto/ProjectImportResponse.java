@@ -0,0 +1,6 @@
+package com.janne6565.projectmanager.dto;
+
+public record ProjectImportResponse(
+        int imported
+) {
+}
@@ -0,0 +1,9 @@
+package com.janne6565.projectmanager.dto;
+
+import java.util.List;
+
+public record ProjectPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,39 @@
+package com.janne6565.projectmanager.dto;
+
+import com.janne6565.projectmanager.dto.external.contributions.ContributionTotalsDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+
+import java.util.Comparator;
+import java.util.List;
+
+public record ProjectStatsDto(
+        String projectUuid,
+        int repositoryCount,
+        ContributionTotalsDto totals,
+        List<RepositoryContributionDto> topRepositories
+) {
+    private static final Comparator<RepositoryContributionDto> BY_ACTIVITY = Comparator
+            .comparingInt((RepositoryContributionDto repository) ->
+                    repository.commits() + repository.pullRequests() + repository.issues() + repository.reviews())
+            .reversed();
+
+    public static ProjectStatsDto of(String projectUuid, List<RepositoryContributionDto> contributions, int topRepositories) {
+        int commits = 0;
+        int pullRequests = 0;
+        int issues = 0;
+        int reviews = 0;
+        for (RepositoryContributionDto contribution : contributions) {
+            commits += contribution.commits();
+            pullRequests += contribution.pullRequests();
+            issues += contribution.issues();
+            reviews += contribution.reviews();
+        }
+
+        return new ProjectStatsDto(
+                projectUuid,
+                contributions.size(),
+                new ContributionTotalsDto(commits, pullRequests, issues, reviews),
+                contributions.stream().sorted(BY_ACTIVITY).limit(topRepositories).toList()
+        );
+    }
+}
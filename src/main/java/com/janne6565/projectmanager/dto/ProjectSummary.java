@@ -0,0 +1,33 @@
+package com.janne6565.projectmanager.dto;
+
+import com.janne6565.projectmanager.entities.Project;
+
+import java.util.List;
+import java.util.Map;
+
+/** Project without its contributions, selected through a constructor projection. */
+public record ProjectSummary(
+        String uuid,
+        Integer index,
+        String name,
+        String descriptionEn,
+        String descriptionDe,
+        String description,
+        Boolean isVisible,
+        Map<String, String> additionalInformation,
+        List<String> repositories
+) {
+    public static ProjectSummary of(Project project) {
+        return new ProjectSummary(
+                project.getUuid(),
+                project.getIndex(),
+                project.getName(),
+                project.getDescriptionEn(),
+                project.getDescriptionDe(),
+                project.getDescription(),
+                project.getIsVisible(),
+                project.getAdditionalInformation(),
+                project.getRepositories()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.janne6565.projectmanager.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+import org.hibernate.Length;
+
+import java.time.Instant;
+
+/** The last fetched contribution summary, stored as gzipped JSON in a single row. */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContributionSnapshot {
+    @Id
+    private String name;
+    private Instant fetchedAt;
+    private int repositoryCount;
+    @Column(length = Length.LONG32)
+    private byte[] payload;
+}
@@ -1,8 +1,11 @@
 package com.janne6565.projectmanager.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -17,7 +20,8 @@ import java.util.Map;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-
+@Table(indexes = @Index(name = "idx_project_visible_index", columnList = "is_visible, index"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -37,8 +41,12 @@ public class Project {
     private Map<String, String> additionalInformation;
     @JdbcTypeCode(SqlTypes.JSON)
     private List<String> repositories;
-    @JdbcTypeCode(SqlTypes.JSON)
+    /** Stored as {@link ProjectContribution} rows and only filled in when a response includes them. */
+    @Transient
     private List<RepositoryContributionDto> contributions;
+    @JsonIgnore
+    @Column(length = 64)
+    private String contributionsFingerprint;
 
     public Project copy() {
         return Project.builder()
@@ -52,6 +60,7 @@ public class Project {
                 .additionalInformation(additionalInformation != null ? new HashMap<>(additionalInformation) : new HashMap<>())
                 .repositories(repositories != null ? new ArrayList<>(repositories) : new ArrayList())
                 .contributions(contributions != null ? new ArrayList<>(contributions) : new ArrayList())
+                .contributionsFingerprint(contributionsFingerprint)
                 .build();
     }
 }
@@ -0,0 +1,86 @@
+package com.janne6565.projectmanager.entities;
+
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+
+/** One repository's contributions matched to one project; {@code position} keeps the upstream order. */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_project_contribution_repository", columnList = "repository_url"))
+public class ProjectContribution implements Persistable<ProjectContributionId> {
+    @EmbeddedId
+    private ProjectContributionId id;
+    private int position;
+    @Column(length = 512)
+    private String url;
+    private String name;
+    private int commits;
+    private int pullRequests;
+    private int issues;
+    private int reviews;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity;
+
+    public static ProjectContribution of(ProjectContributionId id, int position, RepositoryContributionDto contribution) {
+        ProjectContribution projectContribution = new ProjectContribution();
+        projectContribution.id = id;
+        projectContribution.newEntity = true;
+        projectContribution.update(position, contribution);
+        return projectContribution;
+    }
+
+    /** Copies the given values and returns whether anything changed. */
+    public boolean update(int position, RepositoryContributionDto contribution) {
+        boolean changed = this.position != position
+                || !Objects.equals(url, contribution.url())
+                || !Objects.equals(name, contribution.name())
+                || commits != contribution.commits()
+                || pullRequests != contribution.pullRequests()
+                || issues != contribution.issues()
+                || reviews != contribution.reviews();
+        if (changed) {
+            this.position = position;
+            this.url = contribution.url();
+            this.name = contribution.name();
+            this.commits = contribution.commits();
+            this.pullRequests = contribution.pullRequests();
+            this.issues = contribution.issues();
+            this.reviews = contribution.reviews();
+        }
+        return changed;
+    }
+
+    public RepositoryContributionDto toDto() {
+        return new RepositoryContributionDto(url, name, commits, pullRequests, issues, reviews);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
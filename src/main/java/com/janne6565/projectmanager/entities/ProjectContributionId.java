@@ -0,0 +1,20 @@
+package com.janne6565.projectmanager.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Embeddable
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectContributionId implements Serializable {
+    @Column(length = 36)
+    private String projectUuid;
+    @Column(length = 512)
+    private String repositoryUrl;
+}
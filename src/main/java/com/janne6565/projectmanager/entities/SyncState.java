@@ -0,0 +1,22 @@
+package com.janne6565.projectmanager.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncState {
+    @Id
+    private String name;
+    private String leaseOwner;
+    private Instant leaseExpiresAt;
+    private long version;
+    private Instant lastFetchedAt;
+}
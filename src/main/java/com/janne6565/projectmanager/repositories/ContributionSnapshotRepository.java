@@ -0,0 +1,15 @@
+package com.janne6565.projectmanager.repositories;
+
+import com.janne6565.projectmanager.entities.ContributionSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface ContributionSnapshotRepository extends JpaRepository<ContributionSnapshot, String> {
+
+    @Query("select s.fetchedAt from ContributionSnapshot s where s.name = :name")
+    Optional<Instant> findFetchedAt(@Param("name") String name);
+}
@@ -0,0 +1,49 @@
+package com.janne6565.projectmanager.repositories;
+
+import com.janne6565.projectmanager.dto.ProjectCommitTotal;
+import com.janne6565.projectmanager.entities.ProjectContribution;
+import com.janne6565.projectmanager.entities.ProjectContributionId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectContributionRepository extends JpaRepository<ProjectContribution, ProjectContributionId> {
+
+    @Query("select c from ProjectContribution c where c.id.projectUuid = :projectUuid order by c.position")
+    List<ProjectContribution> findByProject(@Param("projectUuid") String projectUuid);
+
+    @Query("select c from ProjectContribution c where c.id.projectUuid in :projectUuids order by c.id.projectUuid, c.position")
+    List<ProjectContribution> findByProjects(@Param("projectUuids") Collection<String> projectUuids);
+
+    @Query("select c from ProjectContribution c order by c.id.projectUuid, c.position")
+    List<ProjectContribution> findAllOrdered();
+
+    @Query("""
+            select c.id.projectUuid from ProjectContribution c
+            join Project p on p.uuid = c.id.projectUuid
+            where c.id.repositoryUrl = :repositoryUrl and p.isVisible = true
+            order by p.index, p.uuid
+            """)
+    List<String> findVisibleOwners(@Param("repositoryUrl") String repositoryUrl);
+
+    @Query("""
+            select new com.janne6565.projectmanager.dto.ProjectCommitTotal(p.uuid, p.name, sum(c.commits))
+            from ProjectContribution c
+            join Project p on p.uuid = c.id.projectUuid
+            where p.isVisible = true
+            group by p.uuid, p.name
+            order by sum(c.commits) desc, p.uuid
+            """)
+    List<ProjectCommitTotal> findTopVisibleProjectsByCommits(Limit limit);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ProjectContribution c where c.id.projectUuid = :projectUuid")
+    int deleteByProject(@Param("projectUuid") String projectUuid);
+}
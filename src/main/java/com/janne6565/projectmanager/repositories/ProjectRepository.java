@@ -1,8 +1,72 @@
 package com.janne6565.projectmanager.repositories;
 
 
+import com.janne6565.projectmanager.dto.ProjectSummary;
 import com.janne6565.projectmanager.entities.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface ProjectRepository extends JpaRepository<Project, String> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Project> findAll();
+
+    @Query("select coalesce(max(p.index), 0) from Project p")
+    int findMaxIndex();
+
+    @Query("select p.uuid from Project p")
+    List<String> findAllUuids();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"))
+    @Query("select p from Project p order by p.index asc, p.uuid asc")
+    Stream<Project> streamAllOrdered();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
+            select new com.janne6565.projectmanager.dto.ProjectSummary(
+                p.uuid, p.index, p.name, p.descriptionEn, p.descriptionDe, p.description,
+                p.isVisible, p.additionalInformation, p.repositories)
+            from Project p
+            """)
+    List<ProjectSummary> findAllSummaries();
+
+    List<Project> findByIsVisibleTrueOrderByIndexAscUuidAsc(Limit limit);
+
+    @Query("""
+            select p from Project p
+            where p.isVisible = true
+              and (p.index > :index or (p.index = :index and p.uuid > :uuid))
+            order by p.index asc, p.uuid asc
+            """)
+    List<Project> findVisibleAfter(@Param("index") int index, @Param("uuid") String uuid, Limit limit);
+
+    @Query("""
+            select new com.janne6565.projectmanager.dto.ProjectSummary(
+                p.uuid, p.index, p.name, p.descriptionEn, p.descriptionDe, p.description,
+                p.isVisible, p.additionalInformation, p.repositories)
+            from Project p
+            where p.isVisible = true
+            order by p.index asc, p.uuid asc
+            """)
+    List<ProjectSummary> findVisibleSummaries(Limit limit);
+
+    @Query("""
+            select new com.janne6565.projectmanager.dto.ProjectSummary(
+                p.uuid, p.index, p.name, p.descriptionEn, p.descriptionDe, p.description,
+                p.isVisible, p.additionalInformation, p.repositories)
+            from Project p
+            where p.isVisible = true
+              and (p.index > :index or (p.index = :index and p.uuid > :uuid))
+            order by p.index asc, p.uuid asc
+            """)
+    List<ProjectSummary> findVisibleSummariesAfter(@Param("index") int index, @Param("uuid") String uuid, Limit limit);
 }
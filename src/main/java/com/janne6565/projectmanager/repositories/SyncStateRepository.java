@@ -0,0 +1,43 @@
+package com.janne6565.projectmanager.repositories;
+
+import com.janne6565.projectmanager.entities.SyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface SyncStateRepository extends JpaRepository<SyncState, String> {
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update SyncState s
+            set s.leaseOwner = :owner, s.leaseExpiresAt = :expiresAt
+            where s.name = :name
+              and (s.leaseOwner = :owner or s.leaseOwner is null or s.leaseExpiresAt < :now)
+            """)
+    int tryAcquireLease(@Param("name") String name, @Param("owner") String owner, @Param("now") Instant now, @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update SyncState s set s.version = s.version + 1 where s.name = :name")
+    int incrementVersion(@Param("name") String name);
+
+    @Query("select s.version from SyncState s where s.name = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update SyncState s set s.lastFetchedAt = :fetchedAt
+            where s.name = :name and (s.lastFetchedAt is null or s.lastFetchedAt < :fetchedAt)
+            """)
+    int recordFetch(@Param("name") String name, @Param("fetchedAt") Instant fetchedAt);
+
+    @Query("select s.lastFetchedAt from SyncState s where s.name = :name")
+    Optional<Instant> findLastFetchedAt(@Param("name") String name);
+}
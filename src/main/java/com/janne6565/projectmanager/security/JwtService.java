@@ -1,8 +1,15 @@
 package com.janne6565.projectmanager.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -10,25 +17,48 @@ import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.TimeUnit;
 
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    @Value("${jwt.cache.max-size:1024}")
+    private int cacheMaxSize;
+
+    private SecretKey signInKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
+    private Timer cacheHitTimer;
+    private Timer cacheMissTimer;
+    private Timer invalidTokenTimer;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(HexFormat.of().parseHex(secretKey));
+        jwtParser = Jwts.parser().verifyWith(signInKey).build();
+        verifiedTokenCache = new VerifiedTokenCache(cacheMaxSize);
+        cacheHitTimer = verifyTimer("hit", "valid");
+        cacheMissTimer = verifyTimer("miss", "valid");
+        invalidTokenTimer = verifyTimer("miss", "invalid");
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private Timer verifyTimer(String cache, String result) {
+        return Timer.builder("jwt.verify")
+                .description("JWT verification, by verified-token cache hit or miss")
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -54,34 +84,44 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /** Verifies signature and expiry with a single parse, or answers from the cache of verified tokens. */
+    public VerifiedToken verifyToken(String token) {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokenCache.get(token, now);
+        if (cached != null) {
+            cacheHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            Jws<Claims> jws = jwtParser.parseSignedClaims(token);
+            Claims claims = jws.getPayload();
+            if (claims.getExpiration() == null) {
+                throw new MissingClaimException(jws.getHeader(), claims, Claims.EXPIRATION, null, "JWT has no expiration claim");
+            }
+            verifiedToken = new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
+        } catch (RuntimeException e) {
+            invalidTokenTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        verifiedTokenCache.put(token, verifiedToken);
+        cacheMissTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return verifiedToken;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verifyToken(token), userDetails);
     }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = java.util.HexFormat.of().parseHex(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.username() != null
+                && token.username().equals(userDetails.getUsername())
+                && !token.isExpired(System.currentTimeMillis());
     }
 }
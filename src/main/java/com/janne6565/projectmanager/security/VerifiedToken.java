@@ -0,0 +1,10 @@
+package com.janne6565.projectmanager.security;
+
+public record VerifiedToken(
+        String username,
+        long expiresAtMillis
+) {
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
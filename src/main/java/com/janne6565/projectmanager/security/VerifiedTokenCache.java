@@ -0,0 +1,35 @@
+package com.janne6565.projectmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.janne6565.projectmanager.services.Sha256;
+
+import java.time.Duration;
+
+/** Bounded LRU cache of verified tokens, keyed by their SHA-256 and expiring with the token. */
+final class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> entries;
+
+    VerifiedTokenCache(int maxSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(Math.max(maxSize, 0))
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) ->
+                        Duration.ofMillis(Math.max(token.expiresAtMillis() - System.currentTimeMillis(), 0))))
+                .build();
+    }
+
+    VerifiedToken get(String token, long nowMillis) {
+        VerifiedToken verifiedToken = entries.getIfPresent(hash(token));
+        return verifiedToken != null && !verifiedToken.isExpired(nowMillis) ? verifiedToken : null;
+    }
+
+    void put(String token, VerifiedToken verifiedToken) {
+        entries.put(hash(token), verifiedToken);
+    }
+
+    private static String hash(String token) {
+        return Sha256.hex(token);
+    }
+}
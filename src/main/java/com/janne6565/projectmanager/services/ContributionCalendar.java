@@ -0,0 +1,278 @@
+package com.janne6565.projectmanager.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/** Dense, prefix-summed calendar that still serializes as the API's {@code date -> count} map. */
+@Slf4j
+public final class ContributionCalendar extends AbstractMap<String, Integer> {
+
+    private static final int ABSENT = -1;
+    private static final ContributionCalendar EMPTY = new ContributionCalendar(0, new int[0], 0);
+
+    private final long firstEpochDay;
+    private final int[] counts;
+    private final long[] prefixSums;
+    private final int size;
+
+    private ContributionCalendar(long firstEpochDay, int[] counts, int size) {
+        this.firstEpochDay = firstEpochDay;
+        this.counts = counts;
+        this.size = size;
+        this.prefixSums = new long[counts.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            prefixSums[i + 1] = prefixSums[i] + (counts[i] == ABSENT ? 0 : counts[i]);
+        }
+    }
+
+    public static ContributionCalendar empty() {
+        return EMPTY;
+    }
+
+    public static ContributionCalendar of(Map<String, Integer> calendar) {
+        if (calendar instanceof ContributionCalendar contributionCalendar) {
+            return contributionCalendar;
+        }
+        Builder builder = builder();
+        if (calendar != null) {
+            calendar.forEach((day, count) -> builder.add(day, count != null ? count : 0));
+        }
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int countOn(LocalDate day) {
+        int count = rawCount(day.toEpochDay());
+        return count == ABSENT ? 0 : count;
+    }
+
+    public boolean isEmpty() {
+        return counts.length == 0;
+    }
+
+    public LocalDate firstDay() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(firstEpochDay);
+    }
+
+    public LocalDate lastDay() {
+        return isEmpty() ? null : LocalDate.ofEpochDay(firstEpochDay + counts.length - 1);
+    }
+
+    /** Sum of all contributions between {@code from} and {@code to}, both inclusive. */
+    public long sum(LocalDate from, LocalDate to) {
+        long start = Math.max(from.toEpochDay() - firstEpochDay, 0);
+        long end = Math.min(to.toEpochDay() - firstEpochDay + 1, counts.length);
+        if (start >= end) {
+            return 0;
+        }
+        return prefixSums[(int) end] - prefixSums[(int) start];
+    }
+
+    /** Splits {@code [from, to]} into day, week or month buckets cut at the range boundaries. */
+    public List<Bucket> buckets(LocalDate from, LocalDate to, BucketSize bucketSize) {
+        List<Bucket> buckets = new ArrayList<>();
+        LocalDate start = from;
+        while (!start.isAfter(to)) {
+            LocalDate next = bucketSize.next(start);
+            LocalDate end = next.minusDays(1).isAfter(to) ? to : next.minusDays(1);
+            buckets.add(new Bucket(start, end, sum(start, end)));
+            start = next;
+        }
+        return buckets;
+    }
+
+    @Override
+    public Integer get(Object key) {
+        if (!(key instanceof String day)) {
+            return null;
+        }
+        try {
+            int count = rawCount(LocalDate.parse(day).toEpochDay());
+            return count == ABSENT ? null : count;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Integer>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Integer>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int rawCount(long epochDay) {
+        long offset = epochDay - firstEpochDay;
+        if (offset < 0 || offset >= counts.length) {
+            return ABSENT;
+        }
+        return counts[(int) offset];
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Integer>> {
+        private int next = advance(0);
+
+        private int advance(int from) {
+            int position = from;
+            while (position < counts.length && counts[position] == ABSENT) {
+                position++;
+            }
+            return position;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < counts.length;
+        }
+
+        @Override
+        public Entry<String, Integer> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int position = next;
+            next = advance(position + 1);
+            String day = LocalDate.ofEpochDay(firstEpochDay + position).toString();
+            return new SimpleImmutableEntry<>(day, counts[position]);
+        }
+    }
+
+    public record Bucket(LocalDate start, LocalDate end, long count) {
+    }
+
+    public enum BucketSize {
+        DAY, WEEK, MONTH;
+
+        public static BucketSize parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+
+        private LocalDate next(LocalDate start) {
+            return switch (this) {
+                case DAY -> start.plusDays(1);
+                case WEEK -> start.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+                case MONTH -> start.with(TemporalAdjusters.firstDayOfNextMonth());
+            };
+        }
+    }
+
+    /** Collects days in any order; days outside the densest {@link #MAX_SPAN_DAYS} window are dropped. */
+    public static final class Builder {
+        static final int MAX_SPAN_DAYS = 50 * 366;
+
+        private long[] epochDays = new long[512];
+        private int[] dayCounts = new int[512];
+        private int length;
+
+        private Builder() {
+        }
+
+        public Builder add(String day, int count) {
+            return add(LocalDate.parse(day), count);
+        }
+
+        public Builder add(LocalDate day, int count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Negative contribution count " + count + " on " + day);
+            }
+            if (length == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, length * 2);
+                dayCounts = Arrays.copyOf(dayCounts, length * 2);
+            }
+            epochDays[length] = day.toEpochDay();
+            dayCounts[length] = count;
+            length++;
+            return this;
+        }
+
+        public ContributionCalendar build() {
+            if (length == 0) {
+                return EMPTY;
+            }
+            long first = Long.MAX_VALUE;
+            long last = Long.MIN_VALUE;
+            for (int i = 0; i < length; i++) {
+                first = Math.min(first, epochDays[i]);
+                last = Math.max(last, epochDays[i]);
+            }
+            if (last - first >= MAX_SPAN_DAYS) {
+                first = densestWindowStart();
+                last = first + MAX_SPAN_DAYS - 1;
+            }
+
+            int[] counts = new int[(int) (last - first + 1)];
+            Arrays.fill(counts, ABSENT);
+            int size = 0;
+            int dropped = 0;
+            for (int i = 0; i < length; i++) {
+                if (epochDays[i] < first || epochDays[i] > last) {
+                    dropped++;
+                    continue;
+                }
+                int offset = (int) (epochDays[i] - first);
+                if (counts[offset] == ABSENT) {
+                    size++;
+                }
+                counts[offset] = dayCounts[i];
+            }
+            if (dropped > 0) {
+                log.warn("Dropped {} calendar entries outside {} .. {}", dropped, LocalDate.ofEpochDay(first), LocalDate.ofEpochDay(last));
+            }
+            return new ContributionCalendar(first, counts, size);
+        }
+
+        /** Prefers the most recent window on ties. */
+        private long densestWindowStart() {
+            long[] sorted = Arrays.copyOf(epochDays, length);
+            Arrays.sort(sorted);
+            long bestStart = sorted[0];
+            int bestCount = 0;
+            int end = 0;
+            for (int start = 0; start < sorted.length; start++) {
+                while (end < sorted.length && sorted[end] - sorted[start] < MAX_SPAN_DAYS) {
+                    end++;
+                }
+                if (end - start >= bestCount) {
+                    bestCount = end - start;
+                    bestStart = sorted[start];
+                }
+            }
+            return bestStart;
+        }
+    }
+}
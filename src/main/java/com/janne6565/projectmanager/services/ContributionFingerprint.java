@@ -0,0 +1,40 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.List;
+
+/** Order-independent fingerprint of a project's matched contributions; bump {@link #VERSION} to force a full rewrite. */
+public final class ContributionFingerprint {
+
+    private static final String VERSION = "2";
+
+    private static final Comparator<RepositoryContributionDto> ORDER = Comparator
+            .comparing(RepositoryContributionDto::url, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(RepositoryContributionDto::name, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private ContributionFingerprint() {
+    }
+
+    public static String of(List<RepositoryContributionDto> contributions) {
+        MessageDigest digest = Sha256.newDigest();
+        update(digest, VERSION);
+        contributions.stream().sorted(ORDER).forEach(contribution -> {
+            update(digest, contribution.url());
+            update(digest, contribution.name());
+            update(digest, contribution.commits() + ":" + contribution.pullRequests() + ":"
+                    + contribution.issues() + ":" + contribution.reviews());
+        });
+        return Sha256.hex(digest);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+}
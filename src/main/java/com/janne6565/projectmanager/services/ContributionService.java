@@ -1,18 +1,451 @@
 package com.janne6565.projectmanager.services;
 
+import com.janne6565.projectmanager.configs.ContributionFetchProperties;
+import com.janne6565.projectmanager.dto.CalendarRangeResponse;
+import com.janne6565.projectmanager.dto.ContributionMetaResponse;
+import com.janne6565.projectmanager.dto.ProjectCommitTotal;
+import com.janne6565.projectmanager.dto.ProjectStatsDto;
 import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.ContributionSnapshot;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import com.janne6565.projectmanager.services.external.ContributionSummaryDecoder;
 import com.janne6565.projectmanager.services.external.ExternalContributionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ContributionService {
 
+    private static final int TOP_REPOSITORIES = 5;
+    private static final String UPDATE_FINGERPRINT_SQL = "update project set contributions_fingerprint = ? where uuid = ?";
+
     private final ExternalContributionService externalContributionService;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService contributionResyncExecutor;
+    private final ProjectReadModel projectReadModel;
+    private final ResponseBodyEncoder responseBodyEncoder;
+    private final ContributionFetchProperties contributionFetchProperties;
+    private final ContributionSummaryDecoder contributionSummaryDecoder;
+    private final SyncCoordinator syncCoordinator;
+    private final ProjectCache projectCache;
+    private final ProjectContributionService projectContributionService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final AtomicBoolean resyncPending = new AtomicBoolean();
+    private final AtomicBoolean fetchInFlight = new AtomicBoolean();
+    private final AtomicInteger decodesInFlight = new AtomicInteger();
+    private final AtomicReference<ContributionState> state = new AtomicReference<>(ContributionState.EMPTY);
+    private final AtomicReference<Instant> lastFetchedAt = new AtomicReference<>();
+    private final AtomicInteger exactPatterns = new AtomicInteger();
+    private final AtomicInteger globPatterns = new AtomicInteger();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("contributions.snapshot.age", lastFetchedAt, ContributionService::ageSeconds)
+                .description("Seconds since contributions were last fetched successfully, changed or not")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("contributions.repositories", state, ContributionService::repositoryCount)
+                .description("Repositories in the published contribution summary")
+                .register(meterRegistry);
+        Gauge.builder("contributions.unassigned", state, ContributionService::unassignedCount)
+                .description("Repositories not matched to any project")
+                .register(meterRegistry);
+        Gauge.builder("contributions.matcher.patterns", exactPatterns, AtomicInteger::get)
+                .tag("type", "exact")
+                .register(meterRegistry);
+        Gauge.builder("contributions.matcher.patterns", globPatterns, AtomicInteger::get)
+                .tag("type", "glob")
+                .register(meterRegistry);
+    }
+
+    /** Only the node holding the sync lease fetches; other replicas pick up the stored snapshot. */
+    @Scheduled(fixedDelay = 2, timeUnit = TimeUnit.MINUTES)
+    public void updateContributions() {
+        if (!syncCoordinator.tryAcquireLease()) {
+            return;
+        }
+        RepositoryMatcher matcher = RepositoryMatcher.ofSummaries(projectRepository.findAllSummaries());
+        if (decodesInFlight.get() > 0 || !fetchInFlight.compareAndSet(false, true)) {
+            log.debug("Skipping contribution fetch, previous fetch still running");
+            return;
+        }
+
+        Timer.Sample fetchSample = Timer.start(meterRegistry);
+        externalContributionService.getContributions(body -> decode(body, matcher))
+                .timeout(contributionFetchProperties.getFetchTimeout())
+                .doOnSuccess(fetched -> {
+                    fetchSample.stop(fetchTimer(fetched != null ? "changed" : "unchanged"));
+                    recordSuccessfulFetch(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+                })
+                .doOnError(error -> fetchSample.stop(fetchTimer("error")))
+                .doFinally(signal -> fetchInFlight.set(false))
+                .subscribe(
+                        fetched -> contributionResyncExecutor.execute(() -> applyFetchedContributions(fetched)),
+                        error -> log.warn("Fetching contributions failed: {}", error.toString())
+                );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadStoredSnapshot() {
+        contributionResyncExecutor.execute(this::reloadSharedState);
+    }
+
+    /** Reloads after another node changed projects or stored a new snapshot; only the lease holder writes. */
+    @Scheduled(fixedDelayString = "${sync.poll-interval:15s}")
+    public void pollSharedState() {
+        syncCoordinator.findLastFetchedAt().ifPresent(this::updateLastFetchedAt);
+        if (syncCoordinator.pollChangedVersion().isPresent()) {
+            projectCache.evictAll();
+            contributionResyncExecutor.execute(this::reloadSharedState);
+        }
+    }
+
+    /** Coalesces bursts of project changes into one re-match of the last fetched summary. */
+    public void requestResync() {
+        if (resyncPending.compareAndSet(false, true)) {
+            contributionResyncExecutor.execute(this::resync);
+        }
+    }
+
+    public ContributionState getState() {
+        return state.get();
+    }
+
+    public List<RepositoryContributionDto> getUnassignedContributions() {
+        return state.get().unassigned();
+    }
+
+    public ContributionCalendar getContributionCalendar() {
+        return state.get().calendar();
+    }
+
+    public ContributionMetaResponse getMeta() {
+        ContributionState current = state.get();
+        Instant fetchedAt = lastFetchedAt.get();
+        return new ContributionMetaResponse(
+                current.dataVersion(),
+                current.fetchedAt() != null ? current.fetchedAt().toString() : null,
+                fetchedAt != null ? fetchedAt.toString() : null,
+                fetchedAt != null ? Math.max(0, Duration.between(fetchedAt, Instant.now()).toSeconds()) : null
+        );
+    }
+
+    /** Missing bounds default to the recorded days, and the range is clamped to them. */
+    public CalendarRangeResponse getContributionCalendarRange(LocalDate from, LocalDate to, ContributionCalendar.BucketSize bucketSize) {
+        ContributionCalendar calendar = state.get().calendar();
+        String bucket = bucketSize.name().toLowerCase(Locale.ROOT);
+        if (calendar.isEmpty()) {
+            return new CalendarRangeResponse(null, null, bucket, 0, List.of());
+        }
+
+        LocalDate start = from == null || from.isBefore(calendar.firstDay()) ? calendar.firstDay() : from;
+        LocalDate end = to == null || to.isAfter(calendar.lastDay()) ? calendar.lastDay() : to;
+        if (start.isAfter(end)) {
+            return new CalendarRangeResponse(start.toString(), end.toString(), bucket, 0, List.of());
+        }
+
+        List<CalendarRangeResponse.CalendarBucketCount> buckets = calendar.buckets(start, end, bucketSize).stream()
+                .map(range -> new CalendarRangeResponse.CalendarBucketCount(range.start().toString(), range.end().toString(), range.count()))
+                .toList();
+        return new CalendarRangeResponse(start.toString(), end.toString(), bucket, calendar.sum(start, end), buckets);
+    }
+
+    public List<String> findRepositoryOwners(String repositoryUrl) {
+        return projectContributionService.findOwners(repositoryUrl);
+    }
+
+    public List<ProjectCommitTotal> getTopProjectsByCommits(int limit) {
+        return projectContributionService.findTopProjectsByCommits(limit);
+    }
+
+    public ProjectStatsDto getProjectStats(String projectUuid) {
+        return state.get().projectStats().get(projectUuid);
+    }
+
+    public EncodedBody getEncodedUnassignedContributions() {
+        return state.get().encodedUnassigned();
+    }
+
+    public EncodedBody getEncodedContributionCalendar() {
+        return state.get().encodedCalendar();
+    }
+
+    private Timer fetchTimer(String outcome) {
+        return Timer.builder("contributions.fetch")
+                .description("Upstream contribution fetch including retries and streaming decode")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Timer matchTimer(String mode) {
+        return Timer.builder("contributions.match")
+                .description("Matching fetched repositories to projects")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+
+    private static double ageSeconds(AtomicReference<Instant> lastFetchedAt) {
+        Instant fetchedAt = lastFetchedAt.get();
+        return fetchedAt != null ? Duration.between(fetchedAt, Instant.now()).toMillis() / 1000.0 : Double.NaN;
+    }
+
+    private static double repositoryCount(AtomicReference<ContributionState> state) {
+        ContributionState current = state.get();
+        return current.isEmpty() ? 0 : current.summary().repositories().size();
+    }
+
+    private static double unassignedCount(AtomicReference<ContributionState> state) {
+        List<RepositoryContributionDto> unassigned = state.get().unassigned();
+        return unassigned != null ? unassigned.size() : 0;
+    }
+
+    /** Counted separately from {@link #fetchInFlight}, since a cancelled fetch can leave its decode running. */
+    private FetchedContributions decode(InputStream body, RepositoryMatcher matcher) {
+        decodesInFlight.incrementAndGet();
+        try {
+            RepositoryMatcher.Accumulator accumulator = matcher.accumulator();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            ContributionSummaryDto summary = contributionSummaryDecoder.decode(body, accumulator);
+            sample.stop(matchTimer("streamed"));
+            return new FetchedContributions(summary, Instant.now().truncatedTo(ChronoUnit.MILLIS), matcher, accumulator.result());
+        } finally {
+            decodesInFlight.decrementAndGet();
+        }
+    }
+
+    private void recordSuccessfulFetch(Instant fetchedAt) {
+        updateLastFetchedAt(fetchedAt);
+        contributionResyncExecutor.execute(() -> {
+            try {
+                syncCoordinator.recordFetch(fetchedAt);
+            } catch (Exception e) {
+                log.warn("Recording the contribution fetch failed: {}", e.toString());
+            }
+        });
+    }
+
+    private void updateLastFetchedAt(Instant fetchedAt) {
+        lastFetchedAt.accumulateAndGet(fetchedAt, (current, next) -> current == null || next.isAfter(current) ? next : current);
+    }
+
+    private void applyFetchedContributions(ExternalContributionService.Fetched<FetchedContributions> response) {
+        FetchedContributions fetched = response.body();
+        log.info("Updating contributions...");
+        log.info("Fetched: {} repository contributions", fetched.summary().repositories().size());
+        try {
+            applySummary(fetched.summary(), fetched.fetchedAt(), fetched, SyncSource.FETCH);
+            externalContributionService.commit(response);
+        } catch (Exception e) {
+            log.error("Applying fetched contributions failed", e);
+        }
+    }
+
+    private void resync() {
+        resyncPending.set(false);
+        if (!syncCoordinator.tryAcquireLease()) {
+            log.debug("Leaving contribution resync to the lease holder");
+            return;
+        }
+        ContributionState current = state.get();
+        if (current.isEmpty()) {
+            log.debug("Skipping contribution resync, nothing has been fetched yet");
+            return;
+        }
+        try {
+            applySummary(current.summary(), current.fetchedAt(), null, SyncSource.RESYNC);
+        } catch (Exception e) {
+            log.error("Contribution resync failed", e);
+        }
+    }
+
+    private void reloadSharedState() {
+        try {
+            syncCoordinator.findLastFetchedAt().ifPresent(this::updateLastFetchedAt);
+            ContributionState current = state.get();
+            Optional<SyncCoordinator.StoredSnapshot> snapshot = syncCoordinator.loadSnapshotNewerThan(current.fetchedAt());
+            ContributionSummaryDto summary = snapshot.map(SyncCoordinator.StoredSnapshot::summary).orElse(current.summary());
+            if (summary == null) {
+                projectReadModel.refresh();
+                return;
+            }
+            Instant fetchedAt = snapshot.map(SyncCoordinator.StoredSnapshot::fetchedAt).orElse(current.fetchedAt());
+            SyncSource source = syncCoordinator.tryAcquireLease() ? SyncSource.RESYNC : SyncSource.REPLICA;
+            applySummary(summary, fetchedAt, null, source);
+        } catch (Exception e) {
+            log.error("Reloading shared contribution state failed", e);
+        }
+    }
+
+    /** Matches outside the write transaction, so admin writes never wait behind it. */
+    private void applySummary(ContributionSummaryDto summary, Instant fetchedAt, FetchedContributions streamed, SyncSource source) {
+        syncLock.lock();
+        try {
+            List<Project> projects = projectRepository.findAll();
+            RepositoryMatcher matcher;
+            RepositoryMatcher.MatchResult result;
+            if (streamed != null && streamed.matcher().isBuiltFrom(projects)) {
+                matcher = streamed.matcher();
+                result = streamed.result();
+            } else {
+                matcher = RepositoryMatcher.of(projects);
+                result = matchTimer("rematch").record(() -> matcher.match(summary.repositories()));
+            }
+            exactPatterns.set(matcher.exactPatternCount());
+            globPatterns.set(matcher.globPatternCount());
+            if (source != SyncSource.REPLICA) {
+                writeChangedContributions(projects, result,
+                        source == SyncSource.FETCH ? syncCoordinator.snapshotOf(summary, fetchedAt) : null, source);
+            }
+
+            Map<String, ProjectStatsDto> stats = new HashMap<>();
+            result.contributionsByProject().forEach((projectUuid, contributions) ->
+                    stats.put(projectUuid, ProjectStatsDto.of(projectUuid, contributions, TOP_REPOSITORIES)));
+            ContributionState previous = state.get();
+            boolean sameSummary = summary == previous.summary();
+            ContributionCalendar calendar = sameSummary ? previous.calendar() : ContributionCalendar.of(summary.calendar());
+            EncodedBody encodedCalendar = sameSummary ? previous.encodedCalendar() : responseBodyEncoder.encode(calendar);
+
+            EncodedBody encodedUnassigned = responseBodyEncoder.encode(result.unassigned());
+
+            state.set(new ContributionState(
+                    previous.version() + 1,
+                    dataVersion(fetchedAt, result, encodedUnassigned, encodedCalendar),
+                    fetchedAt,
+                    summary,
+                    calendar,
+                    List.copyOf(result.unassigned()),
+                    summary.totals(),
+                    Map.copyOf(stats),
+                    encodedUnassigned,
+                    encodedCalendar
+            ));
+            projectReadModel.refresh();
+        } finally {
+            syncLock.unlock();
+        }
+        if (source != SyncSource.REPLICA) {
+            syncCoordinator.markChanged();
+        }
+    }
+
+    private static String dataVersion(
+            Instant fetchedAt,
+            RepositoryMatcher.MatchResult result,
+            EncodedBody encodedUnassigned,
+            EncodedBody encodedCalendar
+    ) {
+        MessageDigest digest = Sha256.newDigest();
+        update(digest, String.valueOf(fetchedAt));
+        new TreeMap<>(result.contributionsByProject()).forEach((projectUuid, contributions) -> {
+            update(digest, projectUuid);
+            update(digest, ContributionFingerprint.of(contributions));
+        });
+        update(digest, encodedUnassigned.etag());
+        update(digest, encodedCalendar.etag());
+        return Sha256.hex(digest);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private void writeChangedContributions(
+            List<Project> projects,
+            RepositoryMatcher.MatchResult result,
+            ContributionSnapshot snapshot,
+            SyncSource source
+    ) {
+        List<Object[]> fingerprintUpdates = new ArrayList<>();
+        Map<String, List<RepositoryContributionDto>> changedContributions = new LinkedHashMap<>();
+        for (Project project : projects) {
+            List<RepositoryContributionDto> matched = result.contributionsFor(project.getUuid());
+            String fingerprint = ContributionFingerprint.of(matched);
+            if (!fingerprint.equals(project.getContributionsFingerprint())) {
+                fingerprintUpdates.add(new Object[]{fingerprint, project.getUuid()});
+                changedContributions.put(project.getUuid(), matched);
+            }
+        }
+        fingerprintUpdates.sort(Comparator.comparing(update -> (String) update[1]));
+
+        Timer.Sample transactionSample = Timer.start(meterRegistry);
+        ProjectContributionService.Delta delta = transactionTemplate.execute(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT_SQL, fingerprintUpdates);
+            ProjectContributionService.Delta written = projectContributionService.replace(changedContributions);
+            if (snapshot != null) {
+                syncCoordinator.storeSnapshot(snapshot);
+            }
+            return written;
+        });
+        transactionSample.stop(Timer.builder("contributions.sync.transaction")
+                .description("Writing changed contributions for one sync")
+                .tag("source", source.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+        if (!fingerprintUpdates.isEmpty()) {
+            projectCache.evictAll();
+        }
+
+        int changed = fingerprintUpdates.size();
+        int skipped = projects.size() - changed;
+        meterRegistry.counter("contributions.sync.rows", "result", "written").increment(changed);
+        meterRegistry.counter("contributions.sync.rows", "result", "skipped").increment(skipped);
+        meterRegistry.counter("contributions.sync.repository.rows", "operation", "inserted").increment(delta.inserted());
+        meterRegistry.counter("contributions.sync.repository.rows", "operation", "updated").increment(delta.updated());
+        meterRegistry.counter("contributions.sync.repository.rows", "operation", "deleted").increment(delta.deleted());
+        log.info("Contribution sync wrote {} projects ({} rows inserted, {} updated, {} deleted), skipped {} unchanged",
+                changed, delta.inserted(), delta.updated(), delta.deleted(), skipped);
+    }
+
+    private enum SyncSource {
+        FETCH, RESYNC, REPLICA
+    }
 
-    public ContributionSummaryDto getContributions() {
-        var mono = externalContributionService.getContributions();
-        return mono != null ? mono.block() : null;
+    private record FetchedContributions(
+            ContributionSummaryDto summary,
+            Instant fetchedAt,
+            RepositoryMatcher matcher,
+            RepositoryMatcher.MatchResult result
+    ) {
     }
 }
@@ -0,0 +1,31 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.ProjectStatsDto;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionTotalsDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/** One sync's published state; {@code version} is per node, {@code dataVersion} is the same on every replica. */
+public record ContributionState(
+        long version,
+        String dataVersion,
+        Instant fetchedAt,
+        ContributionSummaryDto summary,
+        ContributionCalendar calendar,
+        List<RepositoryContributionDto> unassigned,
+        ContributionTotalsDto totals,
+        Map<String, ProjectStatsDto> projectStats,
+        EncodedBody encodedUnassigned,
+        EncodedBody encodedCalendar
+) {
+    static final ContributionState EMPTY = new ContributionState(
+            0, null, null, null, ContributionCalendar.empty(), null, null, Map.of(), null, null);
+
+    public boolean isEmpty() {
+        return summary == null;
+    }
+}
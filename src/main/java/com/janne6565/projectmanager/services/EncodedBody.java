@@ -0,0 +1,25 @@
+package com.janne6565.projectmanager.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/** A JSON body encoded once, with its gzip variant and content-hash ETags. */
+public record EncodedBody(byte[] json, byte[] gzip, String etag, String gzipEtag) {
+
+    public static EncodedBody of(byte[] json) {
+        String hash = Sha256.hex(json);
+        return new EncodedBody(json, gzip(json), "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
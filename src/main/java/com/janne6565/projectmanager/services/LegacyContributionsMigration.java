@@ -0,0 +1,76 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Moves the legacy JSON contributions column into project_contribution rows and drops it. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyContributionsMigration implements ApplicationRunner {
+
+    private static final String COLUMN_EXISTS_SQL = """
+            select count(*) from information_schema.columns
+            where lower(table_schema) = lower(current_schema)
+            and lower(table_name) = 'project' and lower(column_name) = 'contributions'
+            """;
+    private static final String SELECT_CONTRIBUTIONS_SQL =
+            "select uuid, cast(contributions as varchar) from project where contributions is not null";
+    private static final String ANY_ROW_SQL = "select count(*) from project_contribution";
+    private static final String DROP_COLUMN_SQL = "alter table project drop column contributions";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+    private final ProjectContributionService projectContributionService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (jdbcTemplate.queryForObject(COLUMN_EXISTS_SQL, Integer.class) == 0) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> migrate());
+        } catch (DataAccessException e) {
+            // usually another replica migrating at the same time; anything missing is filled by the next sync
+            log.warn("Migrating the legacy contributions column failed: {}", e.toString());
+        }
+    }
+
+    private void migrate() {
+        if (jdbcTemplate.queryForObject(ANY_ROW_SQL, Integer.class) == 0) {
+            ObjectReader reader = jsonMapper.readerForListOf(RepositoryContributionDto.class);
+            Map<String, List<RepositoryContributionDto>> contributionsByProject = new HashMap<>();
+            jdbcTemplate.query(SELECT_CONTRIBUTIONS_SQL, row -> {
+                String uuid = row.getString(1);
+                try {
+                    contributionsByProject.put(uuid, reader.readValue(row.getString(2)));
+                } catch (JacksonException e) {
+                    log.warn("Skipping unreadable legacy contributions of project {}: {}", uuid, e.getOriginalMessage());
+                }
+            });
+            ProjectContributionService.Delta delta = projectContributionService.replace(contributionsByProject);
+            entityManager.flush();
+            log.info("Migrated {} legacy contributions of {} projects", delta.inserted(), contributionsByProject.size());
+        } else {
+            log.info("Contributions were already synced, dropping the legacy column without migrating it");
+        }
+        jdbcTemplate.execute(DROP_COLUMN_SQL);
+    }
+}
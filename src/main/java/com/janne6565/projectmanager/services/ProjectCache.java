@@ -0,0 +1,20 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.entities.Project;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/** Evicts projects from the second-level and query caches after writes Hibernate does not see. */
+@Component
+@RequiredArgsConstructor
+public class ProjectCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictAll() {
+        entityManagerFactory.getCache().evict(Project.class);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+    }
+}
@@ -0,0 +1,121 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.ProjectCommitTotal;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.entities.ProjectContribution;
+import com.janne6565.projectmanager.entities.ProjectContributionId;
+import com.janne6565.projectmanager.repositories.ProjectContributionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Stores matched contributions as one row per project and repository. */
+@Service
+@RequiredArgsConstructor
+public class ProjectContributionService {
+
+    private static final int MAX_IN_QUERY_PROJECTS = 500;
+
+    private final ProjectContributionRepository projectContributionRepository;
+
+    public Project attach(Project project) {
+        if (project != null) {
+            project.setContributions(toDtos(projectContributionRepository.findByProject(project.getUuid())));
+        }
+        return project;
+    }
+
+    public List<Project> attach(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return projects;
+        }
+        List<ProjectContribution> rows = projects.size() > MAX_IN_QUERY_PROJECTS
+                ? projectContributionRepository.findAllOrdered()
+                : projectContributionRepository.findByProjects(projects.stream().map(Project::getUuid).toList());
+
+        Map<String, List<RepositoryContributionDto>> byProject = new HashMap<>();
+        for (ProjectContribution row : rows) {
+            byProject.computeIfAbsent(row.getId().getProjectUuid(), key -> new ArrayList<>()).add(row.toDto());
+        }
+        projects.forEach(project -> project.setContributions(byProject.getOrDefault(project.getUuid(), new ArrayList<>())));
+        return projects;
+    }
+
+    /** Writes only the difference to the stored rows; must run inside a transaction. */
+    public Delta replace(Map<String, List<RepositoryContributionDto>> contributionsByProject) {
+        if (contributionsByProject.isEmpty()) {
+            return new Delta(0, 0, 0);
+        }
+        Map<ProjectContributionId, ProjectContribution> existing = new HashMap<>();
+        List<String> projectUuids = List.copyOf(contributionsByProject.keySet());
+        for (int from = 0; from < projectUuids.size(); from += MAX_IN_QUERY_PROJECTS) {
+            List<String> chunk = projectUuids.subList(from, Math.min(from + MAX_IN_QUERY_PROJECTS, projectUuids.size()));
+            projectContributionRepository.findByProjects(chunk).forEach(row -> existing.put(row.getId(), row));
+        }
+
+        List<ProjectContribution> inserted = new ArrayList<>();
+        int updated = 0;
+        for (Map.Entry<String, List<RepositoryContributionDto>> entry : contributionsByProject.entrySet()) {
+            Map<ProjectContributionId, RepositoryContributionDto> wanted = byRepository(entry.getKey(), entry.getValue());
+            int position = 0;
+            for (Map.Entry<ProjectContributionId, RepositoryContributionDto> contribution : wanted.entrySet()) {
+                ProjectContribution row = existing.remove(contribution.getKey());
+                if (row == null) {
+                    inserted.add(ProjectContribution.of(contribution.getKey(), position, contribution.getValue()));
+                } else if (row.update(position, contribution.getValue())) {
+                    updated++;
+                }
+                position++;
+            }
+        }
+
+        projectContributionRepository.deleteAll(existing.values());
+        projectContributionRepository.saveAll(inserted);
+        return new Delta(inserted.size(), updated, existing.size());
+    }
+
+    public void deleteForProject(String projectUuid) {
+        projectContributionRepository.deleteByProject(projectUuid);
+    }
+
+    public List<String> findOwners(String repositoryUrl) {
+        return projectContributionRepository.findVisibleOwners(RepositoryMatcher.normalizeRepository(repositoryUrl));
+    }
+
+    public List<ProjectCommitTotal> findTopProjectsByCommits(int limit) {
+        return projectContributionRepository.findTopVisibleProjectsByCommits(Limit.of(limit));
+    }
+
+    /** Urls that only differ in case, protocol or a trailing slash collapse into the first occurrence. */
+    private static Map<ProjectContributionId, RepositoryContributionDto> byRepository(
+            String projectUuid,
+            List<RepositoryContributionDto> contributions
+    ) {
+        Map<ProjectContributionId, RepositoryContributionDto> byRepository = new LinkedHashMap<>();
+        for (RepositoryContributionDto contribution : contributions) {
+            if (contribution.url() != null) {
+                byRepository.putIfAbsent(
+                        new ProjectContributionId(projectUuid, RepositoryMatcher.normalizeRepository(contribution.url())),
+                        contribution
+                );
+            }
+        }
+        return byRepository;
+    }
+
+    private static List<RepositoryContributionDto> toDtos(List<ProjectContribution> rows) {
+        List<RepositoryContributionDto> contributions = new ArrayList<>(rows.size());
+        rows.forEach(row -> contributions.add(row.toDto()));
+        return contributions;
+    }
+
+    public record Delta(int inserted, int updated, int deleted) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.ProjectSummary;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** Immutable snapshot of the public projects and their pre-encoded bodies, so reads never touch JPA. */
+@Service
+@RequiredArgsConstructor
+public class ProjectReadModel {
+
+    private static final Comparator<Project> BY_INDEX = Comparator
+            .comparing(Project::getIndex, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Project::getUuid);
+
+    private final ProjectRepository projectRepository;
+    private final ResponseBodyEncoder responseBodyEncoder;
+    private final ProjectContributionService projectContributionService;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong requestedRefreshes = new AtomicLong();
+    private long completedRefreshes;
+    private volatile Snapshot snapshot;
+
+    /** Callers queued behind a running rebuild share the next one. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        long request = requestedRefreshes.incrementAndGet();
+        refreshLock.lock();
+        try {
+            if (completedRefreshes >= request) {
+                return;
+            }
+            long covered = requestedRefreshes.get();
+            List<Project> projects = projectContributionService.attach(projectRepository.findAll()).stream()
+                    .sorted(BY_INDEX)
+                    .map(Project::copy)
+                    .toList();
+
+            Map<String, EncodedBody> encodedById = new HashMap<>();
+            for (Project project : projects) {
+                encodedById.put(project.getUuid(), responseBodyEncoder.encode(project));
+            }
+
+            List<Project> visibleProjects = projects.stream()
+                    .filter(project -> Boolean.TRUE.equals(project.getIsVisible()))
+                    .toList();
+            List<ProjectSummary> visibleSummaries = visibleProjects.stream()
+                    .map(ProjectSummary::of)
+                    .toList();
+
+            snapshot = new Snapshot(
+                    visibleProjects,
+                    visibleSummaries,
+                    responseBodyEncoder.encode(visibleProjects),
+                    responseBodyEncoder.encode(visibleSummaries),
+                    Map.copyOf(encodedById)
+            );
+            completedRefreshes = covered;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public List<Project> getVisibleProjects() {
+        return snapshot().visibleProjects();
+    }
+
+    public List<ProjectSummary> getVisibleSummaries() {
+        return snapshot().visibleSummaries();
+    }
+
+    public EncodedBody getEncodedVisibleProjects(boolean includeContributions) {
+        Snapshot current = snapshot();
+        return includeContributions ? current.encodedProjects() : current.encodedSummaries();
+    }
+
+    public EncodedBody getEncodedProject(String uuid) {
+        return snapshot().encodedById().get(uuid);
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private record Snapshot(
+            List<Project> visibleProjects,
+            List<ProjectSummary> visibleSummaries,
+            EncodedBody encodedProjects,
+            EncodedBody encodedSummaries,
+            Map<String, EncodedBody> encodedById
+    ) {
+    }
+}
@@ -1,135 +1,62 @@
 package com.janne6565.projectmanager.services;
 
-import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
-import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.dto.ProjectPage;
+import com.janne6565.projectmanager.dto.ProjectStatsDto;
+import com.janne6565.projectmanager.dto.ProjectSummary;
 import com.janne6565.projectmanager.entities.Project;
 import com.janne6565.projectmanager.repositories.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    private static final String UPDATE_INDEX_SQL = "update project set index = ? where uuid = ?";
+
     private final ProjectRepository projectRepository;
     private final ContributionService contributionService;
-    private List<RepositoryContributionDto> unassignedContributions;
-    private Map<String, Integer> contributionCalendar;
-
-    @Scheduled(fixedDelay = 2, timeUnit = TimeUnit.MINUTES)
-    public void updateContributions() {
-        ContributionSummaryDto summary = contributionService.getContributions();
-        if (summary == null) return;
-
-        log.info("Updating contributions...");
-        List<RepositoryContributionDto> repositories = summary.repositories();
-        log.info("Fetched: {} repository contributions", repositories.size());
-
-        contributionCalendar = summary.calendar();
-
-        List<RepositoryContributionDto> newUnassigned = new ArrayList<>();
-        for (RepositoryContributionDto repo : repositories) {
-            boolean assigned = false;
-            for (Project project : projectRepository.findAll()) {
-                if (doesRepositoryBelongToProject(repo.url(), project)) {
-                    assigned = true;
-                    break;
-                }
-            }
-            if (!assigned) {
-                newUnassigned.add(repo);
-            }
-        }
-        unassignedContributions = newUnassigned;
-
-        for (Project project : projectRepository.findAll()) {
-            List<RepositoryContributionDto> matched = repositories.stream()
-                    .filter(repo -> doesRepositoryBelongToProject(repo.url(), project))
-                    .toList();
-            project.setContributions(matched);
-            projectRepository.save(project);
-        }
-    }
-
-    public List<RepositoryContributionDto> getUnassignedContributions() {
-        return unassignedContributions;
-    }
-
-    public Map<String, Integer> getContributionCalendar() {
-        return contributionCalendar;
-    }
-
-    private boolean doesRepositoryBelongToProject(String repository, Project project) {
-        if (project.getRepositories() == null) {
-            return false;
-        }
-
-        String normalizedRepository = normalizeRepository(repository);
-        List<String> normalizedConfiguredRepos = project.getRepositories().stream()
-                .map(this::normalizeRepository)
-                .toList();
-
-        if (normalizedConfiguredRepos.contains(normalizedRepository)) {
-            return true;
-        }
-
-        return normalizedConfiguredRepos.stream()
-                .filter(configuredRepo -> configuredRepo.contains("*"))
-                .anyMatch(pattern -> matchesGlobPattern(normalizedRepository, pattern));
-    }
-
-    private boolean matchesGlobPattern(String repository, String globPattern) {
-        String regex = convertGlobToRegex(globPattern);
-        return Pattern.matches(regex, repository);
-    }
-
-    private String convertGlobToRegex(String globPattern) {
-        StringBuilder regex = new StringBuilder("^");
-        for (char c : globPattern.toCharArray()) {
-            if (c == '*') {
-                regex.append(".*");
-            } else if ("[](){}+.^$|\\?".indexOf(c) != -1) {
-                regex.append('\\').append(c);
-            } else {
-                regex.append(c);
-            }
-        }
-        regex.append("$");
-        return regex.toString();
-    }
-
-    private String normalizeRepository(String repository) {
-        String toLower = repository.toLowerCase();
-        String trimmed = toLower.trim();
-        String withoutHttp = trimmed.replaceFirst("^https?://", "");
-        String withoutTrailingSlash = withoutHttp.replaceAll("/$", "");
-        return withoutTrailingSlash;
-    }
+    private final ProjectReadModel projectReadModel;
+    private final SyncCoordinator syncCoordinator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectCache projectCache;
+    private final ProjectContributionService projectContributionService;
 
     public Project createProject(Project project) {
         project.setUuid(null);
-        project.setIndex((int) projectRepository.count() + 1);
+        project.setIndex(projectRepository.findMaxIndex() + 1);
         if (project.getIsVisible() == null) {
             project.setIsVisible(true);
         }
         Project createdProject = projectRepository.save(project);
-        updateContributions();
+        createdProject.setContributions(new ArrayList<>());
+        projectReadModel.refresh();
+        syncCoordinator.markChanged();
+        contributionService.requestResync();
         return createdProject;
     }
 
     public Project updateProject(String uuid, Project project) {
-        Project newProject = projectRepository.findById(uuid)
+        Project newProject = writeWithRetry(status -> projectRepository.findById(uuid)
                 .map(existingProject -> {
                     existingProject.setName(project.getName());
                     existingProject.setDescription(project.getDescription());
@@ -142,32 +69,89 @@ public class ProjectService {
                     }
                     return projectRepository.save(existingProject);
                 })
-                .orElse(null);
-        updateContributions();
-        return newProject;
+                .orElse(null));
+        if (newProject == null) {
+            return null;
+        }
+        projectReadModel.refresh();
+        syncCoordinator.markChanged();
+        contributionService.requestResync();
+        return projectContributionService.attach(newProject);
     }
 
     public Project toggleProjectVisibility(String uuid) {
-        return projectRepository.findById(uuid)
+        Project updatedProject = writeWithRetry(status -> projectRepository.findById(uuid)
                 .map(project -> {
                     project.setIsVisible(!Boolean.TRUE.equals(project.getIsVisible()));
                     return projectRepository.save(project);
                 })
-                .orElse(null);
+                .orElse(null));
+        if (updatedProject == null) {
+            return null;
+        }
+        projectReadModel.refresh();
+        syncCoordinator.markChanged();
+        return projectContributionService.attach(updatedProject);
     }
 
     public List<Project> getProjects() {
-        return projectRepository.findAll().stream()
-                .filter(project -> Boolean.TRUE.equals(project.getIsVisible()))
-                .toList();
+        return projectReadModel.getVisibleProjects();
+    }
+
+    public List<ProjectSummary> getProjectSummaries() {
+        return projectReadModel.getVisibleSummaries();
+    }
+
+    public ProjectPage<Project> getProjectPage(String cursor, int limit) {
+        ProjectCursor position = cursor != null ? ProjectCursor.decode(cursor) : null;
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<Project> projects = projectContributionService.attach(position == null
+                ? projectRepository.findByIsVisibleTrueOrderByIndexAscUuidAsc(fetchLimit)
+                : projectRepository.findVisibleAfter(position.index(), position.uuid(), fetchLimit));
+        return toPage(projects, pageSize, project -> new ProjectCursor(project.getIndex(), project.getUuid()));
+    }
+
+    public ProjectPage<ProjectSummary> getProjectSummaryPage(String cursor, int limit) {
+        ProjectCursor position = cursor != null ? ProjectCursor.decode(cursor) : null;
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<ProjectSummary> summaries = position == null
+                ? projectRepository.findVisibleSummaries(fetchLimit)
+                : projectRepository.findVisibleSummariesAfter(position.index(), position.uuid(), fetchLimit);
+        return toPage(summaries, pageSize, summary -> new ProjectCursor(summary.index(), summary.uuid()));
+    }
+
+    private static <T> ProjectPage<T> toPage(List<T> items, int pageSize, Function<T, ProjectCursor> cursorOf) {
+        if (items.size() <= pageSize) {
+            return new ProjectPage<>(items, null);
+        }
+        List<T> page = List.copyOf(items.subList(0, pageSize));
+        return new ProjectPage<>(page, cursorOf.apply(page.get(pageSize - 1)).encode());
+    }
+
+    public EncodedBody getEncodedProjects(boolean includeContributions) {
+        return projectReadModel.getEncodedVisibleProjects(includeContributions);
+    }
+
+    public EncodedBody getEncodedProjectById(String id) {
+        return projectReadModel.getEncodedProject(id);
     }
 
     public List<Project> getAllProjects() {
-        return projectRepository.findAll();
+        return projectContributionService.attach(projectRepository.findAll());
+    }
+
+    public List<ProjectSummary> getAllProjectSummaries() {
+        return projectRepository.findAllSummaries();
     }
 
     public Project getProjectById(String id) {
-        return projectRepository.findById(id).orElse(null);
+        return projectContributionService.attach(projectRepository.findById(id).orElse(null));
+    }
+
+    public ProjectStatsDto getProjectStats(String uuid) {
+        return contributionService.getProjectStats(uuid);
     }
 
     public Page<Project> getPagesProjects(PageRequest pageRequest) {
@@ -175,15 +159,66 @@ public class ProjectService {
     }
 
     public void deleteProject(String uuid) {
-        projectRepository.deleteById(uuid);
+        transactionTemplate.executeWithoutResult(status -> {
+            projectContributionService.deleteForProject(uuid);
+            projectRepository.deleteById(uuid);
+        });
+        projectReadModel.refresh();
+        syncCoordinator.markChanged();
+        contributionService.requestResync();
     }
 
     public Project updateProjectIndex(String uuid, int index) {
-        return projectRepository.findById(uuid)
+        Project updatedProject = writeWithRetry(status -> projectRepository.findById(uuid)
                 .map(project -> {
                     project.setIndex(index);
                     return projectRepository.save(project);
                 })
-                .orElse(null);
+                .orElse(null));
+        if (updatedProject == null) {
+            return null;
+        }
+        projectReadModel.refresh();
+        syncCoordinator.markChanged();
+        return projectContributionService.attach(updatedProject);
+    }
+
+    /** Reorders all projects with one batched update in uuid order. */
+    public void updateProjectOrder(List<String> orderedUuids) {
+        if (orderedUuids == null) {
+            throw new IllegalArgumentException("Project order is required");
+        }
+        writeWithRetry(status -> {
+            Set<String> existing = new HashSet<>(projectRepository.findAllUuids());
+            Set<String> requested = new HashSet<>(orderedUuids);
+            if (requested.size() != orderedUuids.size() || !requested.equals(existing)) {
+                throw new IllegalArgumentException("Project order must list every project exactly once");
+            }
+
+            List<Object[]> updates = new ArrayList<>(orderedUuids.size());
+            for (int i = 0; i < orderedUuids.size(); i++) {
+                updates.add(new Object[]{i + 1, orderedUuids.get(i)});
+            }
+            updates.sort(Comparator.comparing(update -> (String) update[1]));
+            jdbcTemplate.batchUpdate(UPDATE_INDEX_SQL, updates);
+            return null;
+        });
+        projectCache.evictAll();
+        projectReadModel.refresh();
+        syncCoordinator.markChanged();
+    }
+
+    /** Retries lock timeouts caused by concurrent admin writes. */
+    private <T> T writeWithRetry(TransactionCallback<T> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(write);
+            } catch (TransientDataAccessException e) {
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying project write after lock failure: {}", e.getMessage());
+            }
+        }
     }
 }
@@ -0,0 +1,117 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/** Moves projects between environments as newline-delimited JSON. */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectTransferService {
+
+    private static final int IMPORT_BATCH_SIZE = 100;
+    private static final int EXPORT_BATCH_SIZE = 100;
+
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final ProjectReadModel projectReadModel;
+    private final SyncCoordinator syncCoordinator;
+    private final ContributionService contributionService;
+    private final ProjectContributionService projectContributionService;
+
+    /** Streams all projects in index order, attaching contributions per batch. */
+    @Transactional(readOnly = true)
+    public void exportProjects(OutputStream out) throws IOException {
+        List<Project> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+        try (Stream<Project> projects = projectRepository.streamAllOrdered()) {
+            for (Project project : (Iterable<Project>) projects::iterator) {
+                batch.add(project);
+                if (batch.size() == EXPORT_BATCH_SIZE) {
+                    writeBatch(batch, out);
+                }
+            }
+        }
+        writeBatch(batch, out);
+        out.flush();
+    }
+
+    /** Parses the whole body first, then appends the projects with new uuids in one transaction. */
+    public int importProjects(InputStream in) {
+        List<Project> projects = readProjects(in);
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(IMPORT_BATCH_SIZE);
+            int nextIndex = projectRepository.findMaxIndex() + 1;
+            for (int i = 0; i < projects.size(); i++) {
+                entityManager.persist(toNewProject(projects.get(i), nextIndex + i));
+                if ((i + 1) % IMPORT_BATCH_SIZE == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+
+        log.info("Imported {} projects", projects.size());
+        projectReadModel.refresh();
+        syncCoordinator.markChanged();
+        contributionService.requestResync();
+        return projects.size();
+    }
+
+    private void writeBatch(List<Project> batch, OutputStream out) throws IOException {
+        for (Project project : projectContributionService.attach(batch)) {
+            out.write(jsonMapper.writeValueAsBytes(project));
+            out.write('\n');
+        }
+        batch.clear();
+        entityManager.clear();
+    }
+
+    private List<Project> readProjects(InputStream in) {
+        List<Project> projects = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    projects.add(jsonMapper.readValue(line, Project.class));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return projects;
+    }
+
+    private static Project toNewProject(Project project, int index) {
+        project.setUuid(null);
+        project.setIndex(index);
+        if (project.getIsVisible() == null) {
+            project.setIsVisible(true);
+        }
+        project.setContributions(new ArrayList<>());
+        project.setContributionsFingerprint(null);
+        return project;
+    }
+}
@@ -0,0 +1,213 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.ProjectSummary;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/** Index over the projects' repositories: exact urls in a hash map, glob patterns in a prefix trie. */
+public final class RepositoryMatcher {
+
+    private static final Pattern PROTOCOL = Pattern.compile("^https?://");
+    private static final Pattern TRAILING_SLASH = Pattern.compile("/$");
+
+    private final Map<String, List<String>> repositoriesByProject;
+    private final Map<String, List<String>> exactMatches;
+    private final GlobNode globRoot;
+
+    private RepositoryMatcher(Map<String, List<String>> repositoriesByProject, Map<String, List<String>> exactMatches, GlobNode globRoot) {
+        this.repositoriesByProject = repositoriesByProject;
+        this.exactMatches = exactMatches;
+        this.globRoot = globRoot;
+    }
+
+    public static RepositoryMatcher of(Collection<Project> projects) {
+        return build(configuredRepositories(projects, Project::getUuid, Project::getRepositories));
+    }
+
+    public static RepositoryMatcher ofSummaries(Collection<ProjectSummary> projects) {
+        return build(configuredRepositories(projects, ProjectSummary::uuid, ProjectSummary::repositories));
+    }
+
+    private static <T> Map<String, List<String>> configuredRepositories(
+            Collection<T> projects,
+            Function<T, String> uuid,
+            Function<T, List<String>> repositories
+    ) {
+        Map<String, List<String>> repositoriesByProject = new LinkedHashMap<>();
+        for (T project : projects) {
+            List<String> configured = repositories.apply(project);
+            repositoriesByProject.put(
+                    uuid.apply(project),
+                    configured != null ? configured.stream().filter(Objects::nonNull).toList() : List.of()
+            );
+        }
+        return repositoriesByProject;
+    }
+
+    private static RepositoryMatcher build(Map<String, List<String>> repositoriesByProject) {
+        Map<String, List<String>> exactMatches = new HashMap<>();
+        GlobNode globRoot = new GlobNode();
+
+        repositoriesByProject.forEach((projectUuid, repositories) -> {
+            for (String configuredRepository : repositories) {
+                String normalized = normalizeRepository(configuredRepository);
+                int wildcard = normalized.indexOf('*');
+                if (wildcard == -1) {
+                    exactMatches.computeIfAbsent(normalized, key -> new ArrayList<>(1)).add(projectUuid);
+                } else {
+                    Pattern pattern = Pattern.compile(convertGlobToRegex(normalized));
+                    globRoot.insert(normalized.substring(0, wildcard), new GlobPattern(projectUuid, pattern));
+                }
+            }
+        });
+
+        return new RepositoryMatcher(Collections.unmodifiableMap(repositoriesByProject), Map.copyOf(exactMatches), globRoot);
+    }
+
+    public int exactPatternCount() {
+        return exactMatches.size();
+    }
+
+    public int globPatternCount() {
+        return globRoot.size();
+    }
+
+    /** Whether this index was built from exactly the given projects and repository lists. */
+    public boolean isBuiltFrom(Collection<Project> projects) {
+        return repositoriesByProject.equals(configuredRepositories(projects, Project::getUuid, Project::getRepositories));
+    }
+
+    /** Returns the uuids of all projects the given repository belongs to, in a stable order. */
+    public Set<String> findProjects(String repositoryUrl) {
+        if (repositoryUrl == null) {
+            return Set.of();
+        }
+        String normalized = normalizeRepository(repositoryUrl);
+        Set<String> owners = new LinkedHashSet<>(exactMatches.getOrDefault(normalized, List.of()));
+        globRoot.collectMatches(normalized, owners);
+        return owners;
+    }
+
+    /** Every indexed project is present in the result, with an empty list if nothing matched. */
+    public MatchResult match(List<RepositoryContributionDto> repositories) {
+        Accumulator accumulator = accumulator();
+        repositories.forEach(accumulator);
+        return accumulator.result();
+    }
+
+    /** Assigns repositories incrementally, e.g. while they are being decoded. */
+    public Accumulator accumulator() {
+        return new Accumulator();
+    }
+
+    public static String normalizeRepository(String repository) {
+        String trimmed = repository.toLowerCase().trim();
+        String withoutProtocol = PROTOCOL.matcher(trimmed).replaceFirst("");
+        return TRAILING_SLASH.matcher(withoutProtocol).replaceAll("");
+    }
+
+    public static String convertGlobToRegex(String globPattern) {
+        StringBuilder regex = new StringBuilder("^");
+        for (char c : globPattern.toCharArray()) {
+            if (c == '*') {
+                regex.append(".*");
+            } else if ("[](){}+.^$|\\?".indexOf(c) != -1) {
+                regex.append('\\').append(c);
+            } else {
+                regex.append(c);
+            }
+        }
+        regex.append("$");
+        return regex.toString();
+    }
+
+    public record MatchResult(
+            Map<String, List<RepositoryContributionDto>> contributionsByProject,
+            List<RepositoryContributionDto> unassigned
+    ) {
+        public List<RepositoryContributionDto> contributionsFor(String projectUuid) {
+            return contributionsByProject.getOrDefault(projectUuid, List.of());
+        }
+    }
+
+    public final class Accumulator implements Consumer<RepositoryContributionDto> {
+        private final Map<String, List<RepositoryContributionDto>> contributionsByProject = new LinkedHashMap<>();
+        private final List<RepositoryContributionDto> unassigned = new ArrayList<>();
+
+        private Accumulator() {
+            for (String projectUuid : repositoriesByProject.keySet()) {
+                contributionsByProject.put(projectUuid, new ArrayList<>());
+            }
+        }
+
+        @Override
+        public void accept(RepositoryContributionDto repository) {
+            Set<String> owners = findProjects(repository.url());
+            if (owners.isEmpty()) {
+                unassigned.add(repository);
+                return;
+            }
+            for (String owner : owners) {
+                contributionsByProject.get(owner).add(repository);
+            }
+        }
+
+        public MatchResult result() {
+            return new MatchResult(contributionsByProject, unassigned);
+        }
+    }
+
+    private record GlobPattern(String projectUuid, Pattern pattern) {
+    }
+
+    private static final class GlobNode {
+        private final Map<Character, GlobNode> children = new HashMap<>();
+        private final List<GlobPattern> patterns = new ArrayList<>();
+
+        private int size() {
+            int size = patterns.size();
+            for (GlobNode child : children.values()) {
+                size += child.size();
+            }
+            return size;
+        }
+
+        private void insert(String literalPrefix, GlobPattern globPattern) {
+            GlobNode node = this;
+            for (int i = 0; i < literalPrefix.length(); i++) {
+                node = node.children.computeIfAbsent(literalPrefix.charAt(i), key -> new GlobNode());
+            }
+            node.patterns.add(globPattern);
+        }
+
+        private void collectMatches(String repository, Set<String> owners) {
+            GlobNode node = this;
+            int depth = 0;
+            while (node != null) {
+                for (GlobPattern globPattern : node.patterns) {
+                    if (!owners.contains(globPattern.projectUuid()) && globPattern.pattern().matcher(repository).matches()) {
+                        owners.add(globPattern.projectUuid());
+                    }
+                }
+                if (depth == repository.length()) {
+                    break;
+                }
+                node = node.children.get(repository.charAt(depth++));
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.janne6565.projectmanager.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+@Service
+@RequiredArgsConstructor
+public class ResponseBodyEncoder {
+
+    private final JsonMapper jsonMapper;
+
+    public EncodedBody encode(Object value) {
+        return EncodedBody.of(jsonMapper.writeValueAsBytes(value));
+    }
+}
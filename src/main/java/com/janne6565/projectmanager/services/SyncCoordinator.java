@@ -0,0 +1,154 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.configs.SyncProperties;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.entities.ContributionSnapshot;
+import com.janne6565.projectmanager.entities.SyncState;
+import com.janne6565.projectmanager.repositories.ContributionSnapshotRepository;
+import com.janne6565.projectmanager.repositories.SyncStateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+/** Coordinates contribution sync between replicas through a lease, a version counter and a stored snapshot. */
+@Slf4j
+@Service
+public class SyncCoordinator {
+
+    static final String CONTRIBUTIONS = "contributions";
+
+    private final SyncStateRepository syncStateRepository;
+    private final ContributionSnapshotRepository contributionSnapshotRepository;
+    private final SyncProperties syncProperties;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final AtomicLong seenVersion = new AtomicLong(-1);
+
+    public SyncCoordinator(
+            SyncStateRepository syncStateRepository,
+            ContributionSnapshotRepository contributionSnapshotRepository,
+            SyncProperties syncProperties,
+            JsonMapper jsonMapper,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.syncStateRepository = syncStateRepository;
+        this.contributionSnapshotRepository = contributionSnapshotRepository;
+        this.syncProperties = syncProperties;
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = transactionTemplate;
+        String configuredNodeId = syncProperties.getNodeId();
+        this.nodeId = configuredNodeId != null && !configuredNodeId.isBlank()
+                ? configuredNodeId
+                : UUID.randomUUID().toString();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /** Returns false while another node holds an unexpired lease. */
+    public boolean tryAcquireLease() {
+        ensureStateRow();
+        Instant now = Instant.now();
+        boolean acquired = syncStateRepository.tryAcquireLease(
+                CONTRIBUTIONS, nodeId, now, now.plus(syncProperties.getLeaseDuration())) > 0;
+        if (!acquired) {
+            log.debug("Contribution sync lease is held by another node");
+        }
+        return acquired;
+    }
+
+    /** Bumps the shared version so other replicas reload. */
+    public void markChanged() {
+        ensureStateRow();
+        Long version = transactionTemplate.execute(status -> {
+            syncStateRepository.incrementVersion(CONTRIBUTIONS);
+            return syncStateRepository.findVersion(CONTRIBUTIONS).orElse(null);
+        });
+        if (version != null) {
+            // a gap means another node's change is still pending for the next poll
+            seenVersion.compareAndSet(version - 1, version);
+        }
+    }
+
+    /** Returns the shared version if it moved since the last call, or empty if nothing changed. */
+    public OptionalLong pollChangedVersion() {
+        Optional<Long> version = syncStateRepository.findVersion(CONTRIBUTIONS);
+        if (version.isEmpty() || seenVersion.getAndAccumulate(version.get(), Math::max) >= version.get()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(version.get());
+    }
+
+    /** Records a successful fetch, whether or not the body changed. */
+    public void recordFetch(Instant fetchedAt) {
+        ensureStateRow();
+        syncStateRepository.recordFetch(CONTRIBUTIONS, fetchedAt);
+    }
+
+    public Optional<Instant> findLastFetchedAt() {
+        return syncStateRepository.findLastFetchedAt(CONTRIBUTIONS);
+    }
+
+    /** Serializes and compresses a summary outside of any transaction. */
+    public ContributionSnapshot snapshotOf(ContributionSummaryDto summary, Instant fetchedAt) {
+        byte[] payload = EncodedBody.of(jsonMapper.writeValueAsBytes(summary)).gzip();
+        return new ContributionSnapshot(
+                CONTRIBUTIONS,
+                fetchedAt,
+                summary.repositories() != null ? summary.repositories().size() : 0,
+                payload
+        );
+    }
+
+    public void storeSnapshot(ContributionSnapshot snapshot) {
+        contributionSnapshotRepository.save(snapshot);
+    }
+
+    /** Loads the stored snapshot if it was fetched after {@code knownFetchedAt}. */
+    public Optional<StoredSnapshot> loadSnapshotNewerThan(Instant knownFetchedAt) {
+        Optional<Instant> fetchedAt = contributionSnapshotRepository.findFetchedAt(CONTRIBUTIONS);
+        if (fetchedAt.isEmpty() || fetchedAt.get().equals(knownFetchedAt)) {
+            return Optional.empty();
+        }
+        return contributionSnapshotRepository.findById(CONTRIBUTIONS)
+                .filter(snapshot -> snapshot.getPayload() != null)
+                .map(snapshot -> new StoredSnapshot(readPayload(snapshot.getPayload()), snapshot.getFetchedAt()));
+    }
+
+    private ContributionSummaryDto readPayload(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return jsonMapper.readValue(in, ContributionSummaryDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void ensureStateRow() {
+        if (syncStateRepository.existsById(CONTRIBUTIONS)) {
+            return;
+        }
+        try {
+            syncStateRepository.saveAndFlush(new SyncState(CONTRIBUTIONS, null, Instant.EPOCH, 0, null));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Sync state row was created concurrently by another node");
+        }
+    }
+
+    public record StoredSnapshot(ContributionSummaryDto summary, Instant fetchedAt) {
+    }
+}
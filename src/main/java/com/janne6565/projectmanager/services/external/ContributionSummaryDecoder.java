@@ -0,0 +1,97 @@
+package com.janne6565.projectmanager.services.external;
+
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionTotalsDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.services.ContributionCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** Streams the {@code /contributions} payload through Jackson's token stream instead of binding it. */
+@Slf4j
+@Component
+public class ContributionSummaryDecoder {
+
+    private final JsonMapper jsonMapper;
+    private final ObjectReader repositoryReader;
+    private final ObjectReader totalsReader;
+
+    /** Trailing tokens are expected and counters the API leaves out default to zero. */
+    public ContributionSummaryDecoder(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.repositoryReader = valueReader(jsonMapper, RepositoryContributionDto.class);
+        this.totalsReader = valueReader(jsonMapper, ContributionTotalsDto.class);
+    }
+
+    public ContributionSummaryDto decode(InputStream body, Consumer<RepositoryContributionDto> repositoryListener) {
+        try (JsonParser parser = jsonMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Expected a contribution summary object");
+            }
+
+            ContributionCalendar calendar = ContributionCalendar.empty();
+            List<RepositoryContributionDto> repositories = new ArrayList<>();
+            ContributionTotalsDto totals = null;
+
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "calendar" -> calendar = readCalendar(parser);
+                    case "repositories" -> readRepositories(parser, repository -> {
+                        repositories.add(repository);
+                        repositoryListener.accept(repository);
+                    });
+                    case "totals" -> totals = totalsReader.readValue(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return new ContributionSummaryDto(calendar, repositories, totals);
+        }
+    }
+
+    private static ObjectReader valueReader(JsonMapper jsonMapper, Class<?> type) {
+        return jsonMapper.readerFor(type)
+                .without(DeserializationFeature.FAIL_ON_TRAILING_TOKENS, DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES);
+    }
+
+    private ContributionCalendar readCalendar(JsonParser parser) {
+        ContributionCalendar.Builder builder = ContributionCalendar.builder();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String day = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            try {
+                builder.add(day, parser.getIntValue());
+            } catch (DateTimeParseException e) {
+                log.warn("Ignoring calendar entry with unexpected date '{}'", day);
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring calendar entry: {}", e.getMessage());
+            }
+        }
+        return builder.build();
+    }
+
+    private void readRepositories(JsonParser parser, Consumer<RepositoryContributionDto> consumer) {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(repositoryReader.readValue(parser));
+        }
+    }
+}
@@ -1,20 +1,146 @@
 package com.janne6565.projectmanager.services.external;
 
-import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.configs.ContributionFetchProperties;
+import com.janne6565.projectmanager.services.Sha256;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExternalContributionService {
+    private static final int BODY_PREFETCH_BUFFERS = 16;
+
     private final WebClient contributionApiWebClient;
+    private final ContributionFetchProperties contributionFetchProperties;
+    private final Scheduler contributionDecodeScheduler;
+    private final MeterRegistry meterRegistry;
+
+    private volatile ResponseValidators validators = ResponseValidators.NONE;
+
+    /** Streams {@code /contributions} to {@code bodyReader}; empty when unchanged since the last {@link #commit}. */
+    public <T> Mono<Fetched<T>> getContributions(Function<InputStream, T> bodyReader) {
+        Mono<Optional<Fetched<T>>> request = contributionFetchProperties.isHedgingEnabled()
+                ? Mono.firstWithValue(fetchContributions(bodyReader), Mono.delay(contributionFetchProperties.getHedgeDelay()).then(fetchContributions(bodyReader)))
+                : fetchContributions(bodyReader);
+
+        return request.retryWhen(Retry.backoff(contributionFetchProperties.getMaxRetries(), contributionFetchProperties.getRetryBackoff())
+                        .maxBackoff(contributionFetchProperties.getMaxRetryBackoff())
+                        .filter(ExternalContributionService::isRetryable))
+                .flatMap(Mono::justOrEmpty);
+    }
 
-    public Mono<ContributionSummaryDto> getContributions() {
+    /** Call only after the body was applied, so a failed apply is not mistaken for "unchanged". */
+    public void commit(Fetched<?> fetched) {
+        validators = fetched.validators();
+    }
+
+    /** Signals "unchanged" as an empty Optional, so a hedged request does not treat it as a missing value. */
+    private <T> Mono<Optional<Fetched<T>>> fetchContributions(Function<InputStream, T> bodyReader) {
+        return Mono.defer(() -> conditionalRequest(validators, bodyReader))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    private <T> Mono<Fetched<T>> conditionalRequest(ResponseValidators current, Function<InputStream, T> bodyReader) {
         return contributionApiWebClient.get()
                 .uri("/contributions")
-                .retrieve()
-                .bodyToMono(ContributionSummaryDto.class);
+                .headers(headers -> {
+                    if (current.etag() != null) {
+                        headers.set(HttpHeaders.IF_NONE_MATCH, current.etag());
+                    }
+                    if (current.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, current.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    meterRegistry.counter("contributions.fetch.responses", "status", String.valueOf(response.statusCode().value())).increment();
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        log.debug("Contributions not modified upstream");
+                        return Mono.empty();
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    String etag = firstHeader(response.headers().header(HttpHeaders.ETAG));
+                    String lastModified = firstHeader(response.headers().header(HttpHeaders.LAST_MODIFIED));
+                    Flux<DataBuffer> body = response.bodyToFlux(DataBuffer.class);
+                    return Mono.fromCallable(() -> readBody(current, body, bodyReader, etag, lastModified))
+                            .subscribeOn(contributionDecodeScheduler);
+                });
+    }
+
+    private <T> Fetched<T> readBody(ResponseValidators current, Flux<DataBuffer> body, Function<InputStream, T> bodyReader,
+                                    String etag, String lastModified) throws IOException {
+        MessageDigest digest = Sha256.newDigest();
+        AtomicLong bytes = new AtomicLong();
+        Flux<DataBuffer> countedBody = body.doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()));
+        T result;
+        try (InputStream stream = new DigestInputStream(DataBufferUtils.subscriberInputStream(countedBody, BODY_PREFETCH_BUFFERS), digest)) {
+            result = bodyReader.apply(stream);
+        }
+        DistributionSummary.builder("contributions.fetch.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry)
+                .record(bytes.get());
+
+        String bodyHash = Sha256.hex(digest);
+        if (bodyHash.equals(current.bodyHash())) {
+            log.debug("Contributions body unchanged upstream");
+            return null;
+        }
+        return new Fetched<>(result, new ResponseValidators(etag, lastModified, bodyHash));
+    }
+
+    private static String firstHeader(List<String> values) {
+        return values.isEmpty() ? null : values.getFirst();
+    }
+
+    /** Retries 5xx and 429 answers, connection failures and timeouts. */
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        if (error instanceof WebClientRequestException) {
+            return true;
+        }
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public record Fetched<T>(T body, ResponseValidators validators) {
+    }
+
+    public record ResponseValidators(String etag, String lastModified, String bodyHash) {
+        private static final ResponseValidators NONE = new ResponseValidators(null, null, null);
     }
 }
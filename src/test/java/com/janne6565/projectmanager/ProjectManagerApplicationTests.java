@@ -1,7 +1,5 @@
 package com.janne6565.projectmanager;
 
-import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
-import com.janne6565.projectmanager.dto.external.contributions.ContributionTotalsDto;
 import com.janne6565.projectmanager.services.external.ExternalContributionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,10 +17,8 @@ class ProjectManagerApplicationTests {
 
     @BeforeEach
     void setup() {
-        ContributionSummaryDto emptySummary = new ContributionSummaryDto(
-                java.util.Map.of(), java.util.List.of(), new ContributionTotalsDto(0, 0, 0, 0));
-        org.mockito.Mockito.when(externalContributionService.getContributions())
-                .thenReturn(Mono.just(emptySummary));
+        org.mockito.Mockito.when(externalContributionService.getContributions(org.mockito.ArgumentMatchers.any()))
+                .thenReturn(Mono.empty());
     }
 
     @Test
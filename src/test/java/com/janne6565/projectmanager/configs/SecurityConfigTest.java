@@ -0,0 +1,69 @@
+package com.janne6565.projectmanager.configs;
+
+import com.janne6565.projectmanager.security.JwtAuthenticationFilter;
+import com.janne6565.projectmanager.security.JwtService;
+import com.janne6565.projectmanager.services.external.ExternalContributionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExternalContributionService externalContributionService;
+
+    @MockitoSpyBean
+    private JwtService jwtService;
+
+    @MockitoSpyBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setup() {
+        when(externalContributionService.getContributions(any())).thenReturn(Mono.empty());
+        clearInvocations(jwtService, jwtAuthenticationFilter);
+    }
+
+    @Test
+    void anonymousPublicReadsSkipTheJwtFilter() throws Exception {
+        mockMvc.perform(get("/projects")).andExpect(status().isOk());
+        mockMvc.perform(get("/contributions/calendar")).andExpect(status().isOk());
+
+        verify(jwtAuthenticationFilter, never()).doFilter(any(), any(), any());
+        verify(jwtService, never()).verifyToken(any());
+    }
+
+    @Test
+    void readsCarryingATokenAreVerifiedOnce() throws Exception {
+        mockMvc.perform(get("/projects").header("Authorization", "Bearer not-a-jwt")).andExpect(status().isOk());
+
+        verify(jwtService, times(1)).verifyToken("not-a-jwt");
+    }
+
+    @Test
+    void adminEndpointsStillRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/admin/projects/export")).andExpect(status().isForbidden());
+    }
+}
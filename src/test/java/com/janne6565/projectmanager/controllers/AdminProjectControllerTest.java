@@ -0,0 +1,124 @@
+package com.janne6565.projectmanager.controllers;
+
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import com.janne6565.projectmanager.services.ProjectService;
+import com.janne6565.projectmanager.services.external.ExternalContributionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminProjectControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @MockitoBean
+    private ExternalContributionService externalContributionService;
+
+    @BeforeEach
+    void setup() {
+        when(externalContributionService.getContributions(any())).thenReturn(Mono.empty());
+        deleteAllProjects();
+    }
+
+    @AfterEach
+    void cleanup() {
+        deleteAllProjects();
+    }
+
+    @Test
+    void exportedProjectsImportAsNewProjectsAfterTheExistingOnes() throws Exception {
+        Project first = projectService.createProject(Project.builder()
+                .name("first")
+                .descriptionEn("First project")
+                .repositories(List.of("https://github.com/janne6565/first"))
+                .additionalInformation(Map.of("stack", "java"))
+                .build());
+        Project second = projectService.createProject(Project.builder().name("second").isVisible(false).build());
+
+        String[] lines = export().split("\n");
+        assertThat(lines).hasSize(2);
+
+        // blank lines between projects are skipped
+        String body = "\n" + lines[0] + "\n\n  \n" + lines[1] + "\n\n";
+        mockMvc.perform(post("/admin/projects/import")
+                        .with(user("testuser").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+
+        List<Project> projects = projectService.getAllProjects();
+        assertThat(projects).hasSize(4);
+        List<Project> imported = projects.stream()
+                .filter(project -> !project.getUuid().equals(first.getUuid()) && !project.getUuid().equals(second.getUuid()))
+                .sorted(Comparator.comparing(Project::getIndex))
+                .toList();
+        assertThat(imported).extracting(Project::getName).containsExactly("first", "second");
+        assertThat(imported).extracting(Project::getIndex).containsExactly(second.getIndex() + 1, second.getIndex() + 2);
+        assertThat(imported.get(0).getDescriptionEn()).isEqualTo("First project");
+        assertThat(imported.get(0).getRepositories()).containsExactly("https://github.com/janne6565/first");
+        assertThat(imported.get(0).getAdditionalInformation()).containsEntry("stack", "java");
+        assertThat(imported.get(1).getIsVisible()).isFalse();
+    }
+
+    @Test
+    void malformedImportIsRejectedWithoutPersistingAnything() throws Exception {
+        projectService.createProject(Project.builder().name("existing").build());
+
+        mockMvc.perform(post("/admin/projects/import")
+                        .with(user("testuser").roles("ADMIN"))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\"valid\"}\n{\"name\":\n{\"name\":\"also valid\"}\n"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(projectService.getAllProjects()).extracting(Project::getName).containsExactly("existing");
+    }
+
+    private String export() throws Exception {
+        MvcResult started = mockMvc.perform(get("/admin/projects/export").with(user("testuser").roles("ADMIN")))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private void deleteAllProjects() {
+        projectRepository.findAllUuids().forEach(projectService::deleteProject);
+    }
+}
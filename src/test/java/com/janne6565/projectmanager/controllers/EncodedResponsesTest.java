@@ -0,0 +1,128 @@
+package com.janne6565.projectmanager.controllers;
+
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import com.janne6565.projectmanager.services.ProjectService;
+import com.janne6565.projectmanager.services.external.ExternalContributionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EncodedResponsesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @MockitoBean
+    private ExternalContributionService externalContributionService;
+
+    @BeforeEach
+    void setup() {
+        when(externalContributionService.getContributions(any())).thenReturn(Mono.empty());
+        deleteAllProjects();
+        projectService.createProject(Project.builder().name("encoded").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        deleteAllProjects();
+    }
+
+    @Test
+    void gzipIsServedWithItsOwnEtag() throws Exception {
+        MvcResult gzip = getProjects("gzip, deflate")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+        MvcResult identity = getProjects(null)
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        String gzipEtag = gzip.getResponse().getHeader(HttpHeaders.ETAG);
+        String identityEtag = identity.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(identityEtag).matches("\"[0-9a-f]+\"");
+        assertThat(gzipEtag).isEqualTo(identityEtag.substring(0, identityEtag.length() - 1) + "-gzip\"");
+        assertThat(gunzip(gzip.getResponse().getContentAsByteArray()))
+                .isEqualTo(identity.getResponse().getContentAsString());
+    }
+
+    @Test
+    void gzipWithZeroQualityIsServedUncompressed() throws Exception {
+        String identityEtag = getProjects(null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        getProjects("gzip;q=0, identity")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, identityEtag));
+        getProjects("gzip;q=0.5")
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredWithNotModified() throws Exception {
+        String identityEtag = getProjects(null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String gzipEtag = getProjects("gzip").andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/projects").header(HttpHeaders.IF_NONE_MATCH, identityEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/projects")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified());
+        // the other variant's tag must not validate this one
+        mockMvc.perform(get("/projects").header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions getProjects(String acceptEncoding) throws Exception {
+        MockHttpServletRequestBuilder request = get("/projects");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private static String gunzip(byte[] body) throws Exception {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void deleteAllProjects() {
+        projectRepository.findAllUuids().forEach(projectService::deleteProject);
+    }
+}
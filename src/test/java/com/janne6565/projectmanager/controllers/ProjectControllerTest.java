@@ -0,0 +1,196 @@
+package com.janne6565.projectmanager.controllers;
+
+import com.janne6565.projectmanager.dto.ProjectPage;
+import com.janne6565.projectmanager.dto.UpdateOrderRequest;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import com.janne6565.projectmanager.services.ProjectService;
+import com.janne6565.projectmanager.services.external.ExternalContributionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import reactor.core.publisher.Mono;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ExternalContributionService externalContributionService;
+
+    @BeforeEach
+    void setup() {
+        when(externalContributionService.getContributions(any())).thenReturn(Mono.empty());
+        deleteAllProjects();
+    }
+
+    @AfterEach
+    void cleanup() {
+        deleteAllProjects();
+    }
+
+    @Test
+    void reorderNumbersProjectsFromOne() throws Exception {
+        Project first = create("first");
+        Project second = create("second");
+        Project third = create("third");
+
+        updateOrder(third.getUuid(), first.getUuid(), second.getUuid()).andExpect(status().isOk());
+
+        assertThat(indexOf(third)).isEqualTo(1);
+        assertThat(indexOf(first)).isEqualTo(2);
+        assertThat(indexOf(second)).isEqualTo(3);
+    }
+
+    @Test
+    void reorderRejectsDuplicateUuids() throws Exception {
+        Project first = create("first");
+        Project second = create("second");
+
+        updateOrder(first.getUuid(), second.getUuid(), first.getUuid()).andExpect(status().isBadRequest());
+
+        assertThat(indexOf(first)).isEqualTo(first.getIndex());
+        assertThat(indexOf(second)).isEqualTo(second.getIndex());
+    }
+
+    @Test
+    void reorderRejectsAMissingUuid() throws Exception {
+        Project first = create("first");
+        Project second = create("second");
+
+        updateOrder(second.getUuid()).andExpect(status().isBadRequest());
+
+        assertThat(indexOf(first)).isEqualTo(first.getIndex());
+        assertThat(indexOf(second)).isEqualTo(second.getIndex());
+    }
+
+    @Test
+    void createdProjectsAreAppendedAfterTheHighestIndex() {
+        create("first");
+        Project second = create("second");
+        Project third = create("third");
+
+        projectService.deleteProject(second.getUuid());
+
+        assertThat(create("fourth").getIndex()).isEqualTo(third.getIndex() + 1);
+    }
+
+    @Test
+    void pagesThroughEqualIndexesInUuidOrder() throws Exception {
+        List<String> uuids = Stream.of("a", "b", "c")
+                .map(name -> projectRepository.save(Project.builder().name(name).index(7).build()).getUuid())
+                .sorted()
+                .toList();
+
+        for (String includeContributions : List.of("true", "false")) {
+            ProjectPage<Map<String, Object>> first = page(includeContributions, null);
+            assertThat(first.items()).extracting(item -> item.get("uuid")).containsExactly(uuids.get(0), uuids.get(1));
+            assertThat(first.nextCursor()).isNotNull();
+
+            ProjectPage<Map<String, Object>> last = page(includeContributions, first.nextCursor());
+            assertThat(last.items()).extracting(item -> item.get("uuid")).containsExactly(uuids.get(2));
+            assertThat(last.nextCursor()).isNull();
+        }
+    }
+
+    @Test
+    void aFullLastPageHasNoNextCursor() throws Exception {
+        create("first");
+        create("second");
+
+        ProjectPage<Map<String, Object>> page = page("true", null);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void invalidCursorIsRejected() throws Exception {
+        String notANumber = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("first:uuid".getBytes(StandardCharsets.UTF_8));
+
+        for (String cursor : List.of("not a cursor!", notANumber)) {
+            mockMvc.perform(get("/projects").param("limit", "2").param("cursor", cursor))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/projects").param("limit", "2").param("cursor", cursor).param("includeContributions", "false"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private Project create(String name) {
+        return projectService.createProject(Project.builder().name(name).build());
+    }
+
+    private ResultActions updateOrder(String... uuids) throws Exception {
+        return mockMvc.perform(patch("/projects/order")
+                .with(user("testuser").roles("ADMIN"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(new UpdateOrderRequest(List.of(uuids)))));
+    }
+
+    private ProjectPage<Map<String, Object>> page(String includeContributions, String cursor) throws Exception {
+        MockHttpServletRequestBuilder request = get("/projects")
+                .param("limit", "2")
+                .param("includeContributions", includeContributions);
+        if (cursor != null) {
+            request.param("cursor", cursor);
+        }
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return jsonMapper.readValue(body, new TypeReference<>() {
+        });
+    }
+
+    private int indexOf(Project project) {
+        return jdbcTemplate.queryForObject("select index from project where uuid = ?", Integer.class, project.getUuid());
+    }
+
+    private void deleteAllProjects() {
+        projectRepository.findAllUuids().forEach(projectService::deleteProject);
+    }
+}
@@ -0,0 +1,274 @@
+package com.janne6565.projectmanager.load;
+
+import com.janne6565.projectmanager.services.ContributionService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Concurrent public reads and admin writes during contribution syncs; run with {@code ./mvnw -Ploadtest test}. */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ContributionLoadTest {
+
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 30));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5));
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 32);
+    private static final int PROJECTS = Integer.getInteger("load.projects", 200);
+    private static final int REPOSITORIES = Integer.getInteger("load.repositories", 10_000);
+    private static final Duration FETCH_LATENCY = Duration.ofMillis(Long.getLong("load.fetch-latency-ms", 200));
+    private static final double FETCH_FAILURE_RATE = Double.parseDouble(System.getProperty("load.fetch-failure-rate", "0.1"));
+    private static final double MAX_WRITE_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-write-error-rate", "0"));
+    private static final Duration SYNC_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration SYNC_TIMEOUT = Duration.ofSeconds(60);
+
+    private static MockContributionFetcher fetcher;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private ContributionService contributionService;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        fetcher = new MockContributionFetcher(REPOSITORIES, PROJECTS, FETCH_LATENCY, FETCH_FAILURE_RATE);
+        registry.add("external.contributions.url", fetcher::baseUrl);
+        registry.add("external.contributions.retry-backoff", () -> "50ms");
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+    }
+
+    @AfterAll
+    static void stopFetcher() {
+        if (fetcher != null) {
+            fetcher.close();
+        }
+    }
+
+    @Test
+    void readsStayAvailableWhileSyncAndAdminWritesRun() throws Exception {
+        String baseUrl = "http://localhost:" + port + "/api/v1";
+        try (HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+            String cookie = login(client, baseUrl);
+            List<String> uuids = seedProjects(client, baseUrl, cookie);
+
+            Thread syncLoop = Thread.ofVirtual().name("load-sync").start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    contributionService.updateContributions();
+                    try {
+                        Thread.sleep(SYNC_INTERVAL);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+            awaitVersionAbove(0);
+
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long warmupEnd = System.nanoTime() + WARMUP.toNanos();
+            long deadline = warmupEnd + DURATION.toNanos();
+            long startedAt;
+            long allocatedBefore;
+            long versionBefore;
+
+            try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CONCURRENCY; i++) {
+                    workers.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            runRandomOperation(client, baseUrl, cookie, uuids);
+                        }
+                        return null;
+                    });
+                }
+                Thread.sleep(WARMUP);
+                recording = true;
+                startedAt = System.nanoTime();
+                allocatedBefore = threads.getTotalThreadAllocatedBytes();
+                versionBefore = contributionService.getState().version();
+            }
+
+            double seconds = (System.nanoTime() - startedAt) / 1e9;
+            long allocatedBytes = threads.getTotalThreadAllocatedBytes() - allocatedBefore;
+            List<LatencyRecorder.Summary> summaries = recorders.values().stream()
+                    .map(recorder -> recorder.summarize(seconds))
+                    .sorted((a, b) -> a.operation().compareTo(b.operation()))
+                    .toList();
+            report(summaries, seconds, allocatedBytes);
+
+            long readErrors = summaries.stream()
+                    .filter(summary -> summary.operation().startsWith("GET"))
+                    .mapToLong(LatencyRecorder.Summary::errors)
+                    .sum();
+            assertThat(readErrors).isZero();
+            for (LatencyRecorder.Summary write : summaries.stream().filter(summary -> !summary.operation().startsWith("GET")).toList()) {
+                assertThat((double) write.errors() / write.requests())
+                        .as("error rate of %s", write.operation())
+                        .isLessThanOrEqualTo(MAX_WRITE_ERROR_RATE);
+            }
+            // Syncs must keep being applied under load, not only before it
+            awaitVersionAbove(versionBefore);
+            syncLoop.interrupt();
+        }
+    }
+
+    private void awaitVersionAbove(long version) throws InterruptedException {
+        long deadline = System.nanoTime() + SYNC_TIMEOUT.toNanos();
+        while (contributionService.getState().version() <= version) {
+            assertThat(System.nanoTime()).as("contribution state version above %d", version).isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    private void runRandomOperation(HttpClient client, String baseUrl, String cookie, List<String> uuids) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 45) {
+            send(client, "GET /projects", get(baseUrl + "/projects").header("Accept-Encoding", "gzip").build());
+        } else if (roll < 60) {
+            send(client, "GET /projects summaries", get(baseUrl + "/projects?includeContributions=false").build());
+        } else if (roll < 70) {
+            send(client, "GET /projects page", get(baseUrl + "/projects?limit=20").build());
+        } else if (roll < 80) {
+            send(client, "GET /contributions/unassigned", get(baseUrl + "/contributions/unassigned").header("Accept-Encoding", "gzip").build());
+        } else if (roll < 88) {
+            send(client, "GET /contributions/calendar", get(baseUrl + "/contributions/calendar?bucket=week").build());
+        } else if (roll < 93) {
+            send(client, "GET /contributions/meta", get(baseUrl + "/contributions/meta").build());
+        } else if (roll < 98) {
+            String uuid = uuids.get(random.nextInt(uuids.size()));
+            int org = random.nextInt(PROJECTS * 2);
+            byte[] body = jsonMapper.writeValueAsBytes(Map.of(
+                    "name", "Project " + uuid,
+                    "descriptionEn", "Updated under load",
+                    "isVisible", true,
+                    "repositories", List.of(MockContributionFetcher.repositoryUrl(org, 0), MockContributionFetcher.repositoryUrl(org, 1))
+            ));
+            send(client, "PUT /projects/{uuid}", json(baseUrl + "/projects/" + uuid, cookie).PUT(HttpRequest.BodyPublishers.ofByteArray(body)).build());
+        } else {
+            List<String> order = new ArrayList<>(uuids);
+            Collections.shuffle(order);
+            byte[] body = jsonMapper.writeValueAsBytes(Map.of("uuids", order));
+            send(client, "PATCH /projects/order", json(baseUrl + "/projects/order", cookie).method("PATCH", HttpRequest.BodyPublishers.ofByteArray(body)).build());
+        }
+    }
+
+    private void send(HttpClient client, String operation, HttpRequest request) {
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            success = response.statusCode() < 400;
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (recording) {
+            recorders.computeIfAbsent(operation, LatencyRecorder::new).record(System.nanoTime() - start, success);
+        }
+    }
+
+    private String login(HttpClient client, String baseUrl) throws Exception {
+        byte[] body = jsonMapper.writeValueAsBytes(Map.of("username", "testuser", "password", "testpassword"));
+        HttpResponse<Void> response = client.send(
+                json(baseUrl + "/auth/login", null).POST(HttpRequest.BodyPublishers.ofByteArray(body)).build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+        assertThat(response.statusCode()).isEqualTo(200);
+        String setCookie = response.headers().firstValue("Set-Cookie").orElseThrow();
+        return setCookie.substring(0, setCookie.indexOf(';'));
+    }
+
+    private List<String> seedProjects(HttpClient client, String baseUrl, String cookie) throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int p = 0; p < PROJECTS; p++) {
+            List<String> repositories = new ArrayList<>(List.of(
+                    MockContributionFetcher.repositoryUrl(p, 0),
+                    MockContributionFetcher.repositoryUrl(p, 1),
+                    MockContributionFetcher.repositoryUrl(p, 2)
+            ));
+            if (p % 10 == 0) {
+                repositories.add("github.com/org" + p + "/*");
+            }
+            ndjson.append(jsonMapper.writeValueAsString(Map.of(
+                    "name", "Project " + p,
+                    "descriptionEn", "Load test project " + p,
+                    "isVisible", true,
+                    "repositories", repositories
+            ))).append('\n');
+        }
+
+        HttpResponse<Void> imported = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/admin/projects/import"))
+                        .header("Cookie", cookie)
+                        .header("Content-Type", "application/x-ndjson")
+                        .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding()
+        );
+        assertThat(imported.statusCode()).isEqualTo(200);
+
+        HttpResponse<byte[]> listed = client.send(
+                get(baseUrl + "/admin/projects?includeContributions=false").header("Cookie", cookie).build(),
+                HttpResponse.BodyHandlers.ofByteArray()
+        );
+        List<?> projects = jsonMapper.readValue(listed.body(), List.class);
+        List<String> uuids = projects.stream().map(project -> (String) ((Map<?, ?>) project).get("uuid")).toList();
+        assertThat(uuids).hasSize(PROJECTS);
+        return uuids;
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static HttpRequest.Builder json(String url, String cookie) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).header("Content-Type", "application/json");
+        return cookie != null ? builder.header("Cookie", cookie) : builder;
+    }
+
+    private static void report(List<LatencyRecorder.Summary> summaries, double seconds, long allocatedBytes) {
+        System.out.printf("%nLoad test: %d workers, %.1fs, %d projects, %d repositories (%d KiB payload), fetch latency %s, failure rate %.2f%n",
+                CONCURRENCY, seconds, PROJECTS, REPOSITORIES, fetcher.payloadSize() / 1024, FETCH_LATENCY, FETCH_FAILURE_RATE);
+        System.out.println(LatencyRecorder.Summary.header());
+        summaries.forEach(System.out::println);
+        long total = summaries.stream().mapToLong(LatencyRecorder.Summary::requests).sum();
+        System.out.printf("total throughput: %.1f req/s%n", total / seconds);
+        if (allocatedBytes > 0) {
+            System.out.printf("allocation rate: %.1f MiB/s (whole JVM, driver included)%n", allocatedBytes / seconds / (1024 * 1024));
+        }
+        System.out.printf("fetcher: %d requests, %d injected failures%n", fetcher.requests(), fetcher.failures());
+    }
+}
@@ -0,0 +1,58 @@
+package com.janne6565.projectmanager.load;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Collects request latencies for one operation and summarizes them once the run is over. */
+final class LatencyRecorder {
+
+    private final String operation;
+    private final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+    private final LongAdder errors = new LongAdder();
+
+    LatencyRecorder(String operation) {
+        this.operation = operation;
+    }
+
+    void record(long nanos, boolean success) {
+        latenciesNanos.add(nanos);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    Summary summarize(double seconds) {
+        long[] sorted = latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Summary(
+                operation,
+                sorted.length,
+                errors.sum(),
+                sorted.length / seconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0
+        );
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)] / 1_000_000.0;
+    }
+
+    record Summary(String operation, long requests, long errors, double throughput, double p50Millis, double p99Millis, double maxMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-28s %8d %7d %10.1f %9.2f %9.2f %9.2f",
+                    operation, requests, errors, throughput, p50Millis, p99Millis, maxMillis);
+        }
+
+        static String header() {
+            return String.format("%-28s %8s %7s %10s %9s %9s %9s",
+                    "operation", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.janne6565.projectmanager.load;
+
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionTotalsDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Local stand-in for the contribution fetcher with configurable size, delay and 503 rate. */
+final class MockContributionFetcher implements AutoCloseable {
+
+    private final HttpServer server;
+    private final byte[][] payloads;
+    private final Duration latency;
+    private final double failureRate;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    MockContributionFetcher(int repositoryCount, int projectCount, Duration latency, double failureRate) throws IOException {
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        this.payloads = new byte[][]{
+                jsonMapper.writeValueAsBytes(summary(repositoryCount, projectCount, 1)),
+                jsonMapper.writeValueAsBytes(summary(repositoryCount, projectCount, 2))
+        };
+        this.latency = latency;
+        this.failureRate = failureRate;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.server.createContext("/contributions", this::handle);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    int payloadSize() {
+        return payloads[0].length;
+    }
+
+    int requests() {
+        return requests.get();
+    }
+
+    int failures() {
+        return failures.get();
+    }
+
+    static String repositoryUrl(int org, int repo) {
+        return "https://github.com/org" + org + "/repo" + repo;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            int request = requests.incrementAndGet();
+            sleep(latency);
+            if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+                failures.incrementAndGet();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            byte[] payload = payloads[request % payloads.length];
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, payload.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(payload);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ContributionSummaryDto summary(int repositoryCount, int projectCount, int variant) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<RepositoryContributionDto> repositories = new ArrayList<>(repositoryCount);
+        for (int i = 0; i < repositoryCount; i++) {
+            int org = i % (projectCount * 2);
+            int repo = i / (projectCount * 2);
+            repositories.add(new RepositoryContributionDto(
+                    repositoryUrl(org, repo),
+                    "repo" + repo,
+                    random.nextInt(500) + variant,
+                    random.nextInt(50),
+                    random.nextInt(50),
+                    random.nextInt(50)
+            ));
+        }
+
+        Map<String, Integer> calendar = new LinkedHashMap<>();
+        LocalDate start = LocalDate.now().minusYears(3);
+        for (int day = 0; day < 3 * 365; day++) {
+            calendar.put(start.plusDays(day).toString(), random.nextInt(20));
+        }
+        return new ContributionSummaryDto(
+                calendar,
+                repositories,
+                new ContributionTotalsDto(repositoryCount * 10, repositoryCount, repositoryCount, repositoryCount)
+        );
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
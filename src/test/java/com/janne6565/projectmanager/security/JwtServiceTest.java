@@ -0,0 +1,67 @@
+package com.janne6565.projectmanager.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtService, "cacheMaxSize", 16);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+    }
+
+    @Test
+    void verifiesGeneratedTokens() {
+        String token = jwtService.generateToken(User.withUsername("admin").password("x").build());
+
+        VerifiedToken verified = jwtService.verifyToken(token);
+
+        assertThat(verified.username()).isEqualTo("admin");
+        assertThat(verified.isExpired(System.currentTimeMillis())).isFalse();
+        assertThat(jwtService.verifyToken(token)).isEqualTo(verified);
+    }
+
+    @Test
+    void rejectsTokensWithoutExpiration() {
+        String token = Jwts.builder()
+                .subject("admin")
+                .issuedAt(new Date())
+                .signWith(Keys.hmacShaKeyFor(HexFormat.of().parseHex(SECRET)))
+                .compact();
+
+        assertThatThrownBy(() -> jwtService.verifyToken(token)).isInstanceOf(MissingClaimException.class);
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        String token = Jwts.builder()
+                .subject("admin")
+                .expiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(HexFormat.of().parseHex(SECRET)))
+                .compact();
+
+        assertThatThrownBy(() -> jwtService.verifyToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
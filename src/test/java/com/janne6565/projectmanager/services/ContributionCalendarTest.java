@@ -0,0 +1,155 @@
+package com.janne6565.projectmanager.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContributionCalendarTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void sumsRangesFromPrefixSums() {
+        ContributionCalendar calendar = ContributionCalendar.builder()
+                .add("2024-01-01", 1)
+                .add("2024-01-02", 2)
+                .add("2024-01-05", 4)
+                .add("2024-01-10", 8)
+                .build();
+
+        assertThat(calendar.sum(JAN_1, JAN_1)).isEqualTo(1);
+        assertThat(calendar.sum(JAN_1, JAN_1.plusDays(1))).isEqualTo(3);
+        assertThat(calendar.sum(JAN_1.plusDays(2), JAN_1.plusDays(3))).isZero();
+        assertThat(calendar.sum(JAN_1.plusDays(1), JAN_1.plusDays(4))).isEqualTo(6);
+        assertThat(calendar.sum(JAN_1, JAN_1.plusDays(9))).isEqualTo(15);
+    }
+
+    @Test
+    void clampsRangesToRecordedDays() {
+        ContributionCalendar calendar = ContributionCalendar.builder()
+                .add("2024-01-01", 1)
+                .add("2024-01-03", 2)
+                .build();
+
+        assertThat(calendar.sum(LocalDate.of(2023, 1, 1), LocalDate.of(2025, 1, 1))).isEqualTo(3);
+        assertThat(calendar.sum(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))).isZero();
+        assertThat(calendar.sum(LocalDate.of(2024, 1, 4), LocalDate.of(2024, 2, 1))).isZero();
+        assertThat(calendar.sum(JAN_1.plusDays(2), JAN_1)).isZero();
+    }
+
+    @Test
+    void splitsWeekBucketsOnMondays() {
+        ContributionCalendar calendar = dailyCalendar(JAN_1, 21);
+
+        // 2024-01-01 is a Monday; start the range mid-week to get a cut first bucket
+        var buckets = calendar.buckets(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 16), ContributionCalendar.BucketSize.WEEK);
+
+        assertThat(buckets).containsExactly(
+                new ContributionCalendar.Bucket(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 7), 5),
+                new ContributionCalendar.Bucket(LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 14), 7),
+                new ContributionCalendar.Bucket(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 1, 16), 2)
+        );
+    }
+
+    @Test
+    void splitsMonthBucketsOnFirstOfMonth() {
+        ContributionCalendar calendar = dailyCalendar(LocalDate.of(2024, 1, 30), 32);
+
+        var buckets = calendar.buckets(LocalDate.of(2024, 1, 30), LocalDate.of(2024, 3, 1), ContributionCalendar.BucketSize.MONTH);
+
+        assertThat(buckets).containsExactly(
+                new ContributionCalendar.Bucket(LocalDate.of(2024, 1, 30), LocalDate.of(2024, 1, 31), 2),
+                new ContributionCalendar.Bucket(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29), 29),
+                new ContributionCalendar.Bucket(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1), 1)
+        );
+    }
+
+    @Test
+    void splitsDayBuckets() {
+        ContributionCalendar calendar = ContributionCalendar.builder().add("2024-01-01", 3).add("2024-01-03", 5).build();
+
+        assertThat(calendar.buckets(JAN_1, JAN_1.plusDays(2), ContributionCalendar.BucketSize.DAY))
+                .extracting(ContributionCalendar.Bucket::count)
+                .containsExactly(3L, 0L, 5L);
+    }
+
+    @Test
+    void presentsRecordedDaysAsAMap() {
+        Map<String, Integer> source = new LinkedHashMap<>();
+        source.put("2024-01-03", 0);
+        source.put("2024-01-01", 2);
+
+        ContributionCalendar calendar = ContributionCalendar.of(source);
+
+        assertThat(calendar).hasSize(2).containsExactly(Map.entry("2024-01-01", 2), Map.entry("2024-01-03", 0));
+        assertThat(calendar.get("2024-01-02")).isNull();
+        assertThat(calendar.get("garbage")).isNull();
+        assertThat(calendar.countOn(JAN_1.plusDays(1))).isZero();
+        assertThat(calendar.firstDay()).isEqualTo(JAN_1);
+        assertThat(calendar.lastDay()).isEqualTo(JAN_1.plusDays(2));
+        assertThat(calendar).isEqualTo(Map.of("2024-01-01", 2, "2024-01-03", 0));
+    }
+
+    @Test
+    void keepsTheLastCountForDuplicateDays() {
+        ContributionCalendar calendar = ContributionCalendar.builder().add("2024-01-01", 1).add("2024-01-01", 4).build();
+
+        assertThat(calendar).hasSize(1).containsEntry("2024-01-01", 4);
+        assertThat(calendar.sum(JAN_1, JAN_1)).isEqualTo(4);
+    }
+
+    @Test
+    void dropsOutlierDaysOutsideTheDenseWindow() {
+        ContributionCalendar calendar = ContributionCalendar.builder()
+                .add("0001-01-01", 100)
+                .add("2024-01-01", 1)
+                .add("2024-01-02", 2)
+                .add("+999999999-12-31", 100)
+                .build();
+
+        assertThat(calendar).containsOnlyKeys("2024-01-01", "2024-01-02");
+        assertThat(calendar.sum(LocalDate.MIN, LocalDate.MAX)).isEqualTo(3);
+        assertThat(calendar.lastDay().toEpochDay() - calendar.firstDay().toEpochDay())
+                .isLessThan(ContributionCalendar.Builder.MAX_SPAN_DAYS);
+    }
+
+    @Test
+    void keepsCalendarsSpanningExactlyTheMaximumWindow() {
+        LocalDate last = JAN_1.plusDays(ContributionCalendar.Builder.MAX_SPAN_DAYS - 1);
+
+        ContributionCalendar calendar = ContributionCalendar.builder().add(JAN_1, 1).add(last, 1).build();
+
+        assertThat(calendar).hasSize(2);
+        assertThat(calendar.lastDay()).isEqualTo(last);
+    }
+
+    @Test
+    void rejectsNegativeCounts() {
+        ContributionCalendar.Builder builder = ContributionCalendar.builder();
+
+        assertThatThrownBy(() -> builder.add("2024-01-01", -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(builder.build().isEmpty()).isTrue();
+    }
+
+    @Test
+    void emptyCalendarHasNoDays() {
+        ContributionCalendar calendar = ContributionCalendar.of(null);
+
+        assertThat(calendar.isEmpty()).isTrue();
+        assertThat(calendar.firstDay()).isNull();
+        assertThat(calendar.sum(JAN_1, JAN_1.plusDays(10))).isZero();
+    }
+
+    private static ContributionCalendar dailyCalendar(LocalDate first, int days) {
+        ContributionCalendar.Builder builder = ContributionCalendar.builder();
+        for (int i = 0; i < days; i++) {
+            builder.add(first.plusDays(i), 1);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+import com.janne6565.projectmanager.repositories.ProjectRepository;
+import com.janne6565.projectmanager.services.external.ExternalContributionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LegacyContributionsMigrationTest {
+
+    private static final String LEGACY_CONTRIBUTIONS = """
+            [{"url":"https://github.com/janne6565/a","name":"a","commits":3,"pullRequests":1,"issues":0,"reviews":2},
+             {"url":"https://github.com/janne6565/b","name":"b","commits":5,"pullRequests":0,"issues":1,"reviews":0}]
+            """;
+
+    @MockitoBean
+    private ExternalContributionService externalContributionService;
+
+    @Autowired
+    private LegacyContributionsMigration migration;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectContributionService projectContributionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project project;
+
+    @BeforeEach
+    void setup() {
+        when(externalContributionService.getContributions(any())).thenReturn(Mono.empty());
+        project = projectRepository.save(Project.builder().name("legacy").index(0).build());
+        jdbcTemplate.execute("alter table project add column contributions json");
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.execute("alter table project drop column if exists contributions");
+        projectContributionService.deleteForProject(project.getUuid());
+        projectRepository.deleteById(project.getUuid());
+    }
+
+    @Test
+    void movesLegacyContributionsIntoRowsAndDropsTheColumn() {
+        jdbcTemplate.update("update project set contributions = ? format json where uuid = ?",
+                LEGACY_CONTRIBUTIONS, project.getUuid());
+
+        migration.run(null);
+
+        assertThat(projectContributionService.attach(project).getContributions()).containsExactly(
+                new RepositoryContributionDto("https://github.com/janne6565/a", "a", 3, 1, 0, 2),
+                new RepositoryContributionDto("https://github.com/janne6565/b", "b", 5, 0, 1, 0)
+        );
+        assertThat(legacyColumnExists()).isFalse();
+    }
+
+    @Test
+    void keepsSyncedRowsAndOnlyDropsTheColumn() {
+        RepositoryContributionDto synced = new RepositoryContributionDto("https://github.com/janne6565/c", "c", 1, 0, 0, 0);
+        projectContributionService.replace(Map.of(project.getUuid(), List.of(synced)));
+        jdbcTemplate.update("update project set contributions = ? format json where uuid = ?",
+                LEGACY_CONTRIBUTIONS, project.getUuid());
+
+        migration.run(null);
+
+        assertThat(projectContributionService.attach(project).getContributions()).containsExactly(synced);
+        assertThat(legacyColumnExists()).isFalse();
+    }
+
+    private boolean legacyColumnExists() {
+        return jdbcTemplate.queryForObject("""
+                select count(*) from information_schema.columns
+                where lower(table_name) = 'project' and lower(column_name) = 'contributions'
+                """, Integer.class) > 0;
+    }
+}
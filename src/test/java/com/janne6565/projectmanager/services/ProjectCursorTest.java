@@ -0,0 +1,34 @@
+package com.janne6565.projectmanager.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        ProjectCursor cursor = new ProjectCursor(-3, "0b6f3c1e-6c4e-4b5e-9a55-2d1f0f7c9e11");
+
+        assertThat(ProjectCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        for (String cursor : new String[]{"%%%", encode("no-separator"), encode(":uuid"), encode("1:"), encode("one:uuid")}) {
+            assertThatThrownBy(() -> ProjectCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Invalid cursor");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
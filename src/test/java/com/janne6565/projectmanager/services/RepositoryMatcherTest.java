@@ -0,0 +1,136 @@
+package com.janne6565.projectmanager.services;
+
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import com.janne6565.projectmanager.entities.Project;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryMatcherTest {
+
+    @Test
+    void findsEveryProjectMatchingARepository() {
+        RepositoryMatcher matcher = RepositoryMatcher.of(List.of(
+                project("exact", "https://github.com/janne6565/project-manager"),
+                project("org-glob", "github.com/janne6565/*"),
+                project("suffix-glob", "github.com/*/project-manager"),
+                project("other", "github.com/someone-else/*")
+        ));
+
+        assertThat(matcher.findProjects("https://github.com/janne6565/project-manager"))
+                .containsExactlyInAnyOrder("exact", "org-glob", "suffix-glob");
+    }
+
+    @Test
+    void matchesGlobWithWildcardAtPositionZero() {
+        RepositoryMatcher matcher = RepositoryMatcher.of(List.of(project("any-manager", "*-manager")));
+
+        assertThat(matcher.findProjects("https://github.com/janne6565/project-manager")).containsExactly("any-manager");
+        assertThat(matcher.findProjects("gitlab.com/x/manager-tool")).isEmpty();
+    }
+
+    @Test
+    void normalizesProtocolCaseAndTrailingSlash() {
+        RepositoryMatcher matcher = RepositoryMatcher.of(List.of(
+                project("configured-with-protocol", "HTTPS://GitHub.com/Janne6565/Repo/"),
+                project("configured-without-protocol", "github.com/janne6565/repo")
+        ));
+
+        assertThat(matcher.findProjects("http://github.com/janne6565/repo"))
+                .containsExactly("configured-with-protocol", "configured-without-protocol");
+        assertThat(matcher.findProjects("github.com/janne6565/repo/"))
+                .containsExactly("configured-with-protocol", "configured-without-protocol");
+        assertThat(RepositoryMatcher.normalizeRepository("  https://GitHub.com/a/b/  ")).isEqualTo("github.com/a/b");
+    }
+
+    @Test
+    void treatsRegexMetacharactersLiterally() {
+        RepositoryMatcher matcher = RepositoryMatcher.of(List.of(
+                project("dotted", "github.com/a/my.repo"),
+                project("special", "github.com/a/c++(x)[y]{z}$^|?*")
+        ));
+
+        assertThat(matcher.findProjects("github.com/a/my.repo")).containsExactly("dotted");
+        assertThat(matcher.findProjects("github.com/a/myXrepo")).isEmpty();
+        assertThat(matcher.findProjects("github.com/a/c++(x)[y]{z}$^|?-suffix")).containsExactly("special");
+        assertThat(matcher.findProjects("github.com/a/c+(x)[y]{z}$^|?")).isEmpty();
+        assertThat(RepositoryMatcher.convertGlobToRegex("a.b*")).isEqualTo("^a\\.b.*$");
+    }
+
+    @Test
+    void ignoresNullUrlsAndNullConfiguredRepositories() {
+        RepositoryMatcher matcher = RepositoryMatcher.of(List.of(
+                project("with-null", null, "github.com/a/b"),
+                Project.builder().uuid("without-repositories").build()
+        ));
+
+        assertThat(matcher.findProjects(null)).isEmpty();
+
+        RepositoryMatcher.MatchResult result = matcher.match(List.of(
+                contribution(null),
+                contribution("https://github.com/a/b")
+        ));
+        assertThat(result.contributionsFor("with-null")).extracting(RepositoryContributionDto::url)
+                .containsExactly("https://github.com/a/b");
+        assertThat(result.contributionsFor("without-repositories")).isEmpty();
+        assertThat(result.unassigned()).extracting(RepositoryContributionDto::url).containsExactly((String) null);
+    }
+
+    @Test
+    void matchAssignsRepositoriesToAllOwnersAndCollectsUnassigned() {
+        RepositoryMatcher matcher = RepositoryMatcher.of(List.of(
+                project("first", "github.com/org/*"),
+                project("second", "github.com/org/shared")
+        ));
+
+        RepositoryMatcher.MatchResult result = matcher.match(List.of(
+                contribution("https://github.com/org/shared"),
+                contribution("https://github.com/org/own"),
+                contribution("https://github.com/elsewhere/repo")
+        ));
+
+        assertThat(result.contributionsFor("first")).extracting(RepositoryContributionDto::url)
+                .containsExactly("https://github.com/org/shared", "https://github.com/org/own");
+        assertThat(result.contributionsFor("second")).extracting(RepositoryContributionDto::url)
+                .containsExactly("https://github.com/org/shared");
+        assertThat(result.unassigned()).extracting(RepositoryContributionDto::url)
+                .containsExactly("https://github.com/elsewhere/repo");
+    }
+
+    @Test
+    void isBuiltFromDetectsChangedProjectsAndRepositories() {
+        List<Project> projects = List.of(project("a", "github.com/a/*"), project("b", "github.com/b/x"));
+        RepositoryMatcher matcher = RepositoryMatcher.of(projects);
+
+        assertThat(matcher.isBuiltFrom(List.of(project("a", "github.com/a/*"), project("b", "github.com/b/x")))).isTrue();
+        assertThat(matcher.isBuiltFrom(List.of(project("a", "github.com/a/*"), project("b", "github.com/b/y")))).isFalse();
+        assertThat(matcher.isBuiltFrom(List.of(project("a", "github.com/a/*")))).isFalse();
+        assertThat(matcher.isBuiltFrom(List.of(project("a", "github.com/a/*"), project("c", "github.com/b/x")))).isFalse();
+    }
+
+    @Test
+    void countsExactAndGlobPatterns() {
+        RepositoryMatcher matcher = RepositoryMatcher.of(List.of(
+                project("a", "github.com/a/x", "github.com/a/*"),
+                project("b", "github.com/a/x", "*")
+        ));
+
+        assertThat(matcher.exactPatternCount()).isEqualTo(1);
+        assertThat(matcher.globPatternCount()).isEqualTo(2);
+    }
+
+    private static Project project(String uuid, String... repositories) {
+        return Project.builder()
+                .uuid(uuid)
+                .repositories(new ArrayList<>(Arrays.asList(repositories)))
+                .build();
+    }
+
+    private static RepositoryContributionDto contribution(String url) {
+        return new RepositoryContributionDto(url, "name", 1, 0, 0, 0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.janne6565.projectmanager.services.external;
+
+import com.janne6565.projectmanager.dto.external.contributions.ContributionSummaryDto;
+import com.janne6565.projectmanager.dto.external.contributions.ContributionTotalsDto;
+import com.janne6565.projectmanager.dto.external.contributions.RepositoryContributionDto;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContributionSummaryDecoderTest {
+
+    private final ContributionSummaryDecoder decoder = new ContributionSummaryDecoder(JsonMapper.builder().build());
+
+    @Test
+    void decodesFieldsInAnyOrder() {
+        String repositoriesFirst = """
+                {"repositories":[{"url":"https://github.com/a/b","name":"b","commits":3,"pullRequests":1,"issues":0,"reviews":2}],
+                 "totals":{"commits":3,"pullRequests":1,"issues":0,"reviews":2},
+                 "calendar":{"2024-01-02":3,"2024-01-01":1}}
+                """;
+        String calendarFirst = """
+                {"calendar":{"2024-01-01":1,"2024-01-02":3},
+                 "totals":{"commits":3,"pullRequests":1,"issues":0,"reviews":2},
+                 "repositories":[{"url":"https://github.com/a/b","name":"b","commits":3,"pullRequests":1,"issues":0,"reviews":2}]}
+                """;
+
+        ContributionSummaryDto first = decode(repositoriesFirst, new ArrayList<>());
+        ContributionSummaryDto second = decode(calendarFirst, new ArrayList<>());
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.calendar()).containsEntry("2024-01-01", 1).containsEntry("2024-01-02", 3).hasSize(2);
+        assertThat(first.totals()).isEqualTo(new ContributionTotalsDto(3, 1, 0, 2));
+        assertThat(first.repositories()).containsExactly(new RepositoryContributionDto("https://github.com/a/b", "b", 3, 1, 0, 2));
+    }
+
+    @Test
+    void streamsRepositoriesToTheListenerInOrder() {
+        List<RepositoryContributionDto> streamed = new ArrayList<>();
+
+        ContributionSummaryDto summary = decode("""
+                {"repositories":[{"url":"u1","name":"n1","commits":1},{"url":"u2","name":"n2","commits":2}]}
+                """, streamed);
+
+        assertThat(streamed).extracting(RepositoryContributionDto::url).containsExactly("u1", "u2");
+        assertThat(summary.repositories()).isEqualTo(streamed);
+    }
+
+    @Test
+    void skipsUnknownFields() {
+        ContributionSummaryDto summary = decode("""
+                {"generatedAt":"2024-01-01T00:00:00Z",
+                 "meta":{"nested":{"repositories":[{"url":"not-a-repository"}]},"list":[1,[2,3]]},
+                 "repositories":[{"url":"u","name":"n","commits":1,"language":"Java","topics":["a"]}],
+                 "calendar":{"2024-01-01":1}}
+                """, new ArrayList<>());
+
+        assertThat(summary.repositories()).containsExactly(new RepositoryContributionDto("u", "n", 1, 0, 0, 0));
+        assertThat(summary.calendar()).containsOnlyKeys("2024-01-01");
+    }
+
+    @Test
+    void treatsNullsAsMissing() {
+        ContributionSummaryDto summary = decode("""
+                {"calendar":{"2024-01-01":null,"2024-01-02":2},"repositories":null,"totals":null}
+                """, new ArrayList<>());
+
+        assertThat(summary.calendar()).containsOnlyKeys("2024-01-02");
+        assertThat(summary.repositories()).isEmpty();
+        assertThat(summary.totals()).isNull();
+
+        ContributionSummaryDto allNull = decode("""
+                {"calendar":null,"repositories":null,"totals":null}
+                """, new ArrayList<>());
+        assertThat(allNull.calendar()).isEmpty();
+    }
+
+    @Test
+    void ignoresInvalidCalendarEntries() {
+        ContributionSummaryDto summary = decode("""
+                {"calendar":{"not-a-date":5,"2024-02-29":1,"2024-03-01":-2}}
+                """, new ArrayList<>());
+
+        assertThat(summary.calendar()).containsOnlyKeys("2024-02-29");
+        assertThat(summary.calendar().get(LocalDate.of(2024, 2, 29).toString())).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsTruncatedInput() {
+        List<RepositoryContributionDto> streamed = new ArrayList<>();
+
+        assertThatThrownBy(() -> decode("""
+                {"repositories":[{"url":"u1","name":"n1","commits":1},{"url":"u2","na""", streamed))
+                .isInstanceOf(JacksonException.class);
+        assertThat(streamed).extracting(RepositoryContributionDto::url).containsExactly("u1");
+
+        assertThatThrownBy(() -> decode("{\"calendar\":{\"2024-01-01\":1", new ArrayList<>()))
+                .isInstanceOf(JacksonException.class);
+    }
+
+    @Test
+    void rejectsNonObjectPayloads() {
+        assertThatThrownBy(() -> decode("[]", new ArrayList<>())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> decode("", new ArrayList<>())).isInstanceOf(IllegalStateException.class);
+    }
+
+    private ContributionSummaryDto decode(String json, List<RepositoryContributionDto> streamed) {
+        return decoder.decode(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), streamed::add);
+    }
+}
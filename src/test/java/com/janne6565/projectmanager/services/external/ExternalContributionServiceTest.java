@@ -0,0 +1,127 @@
+package com.janne6565.projectmanager.services.external;
+
+import com.janne6565.projectmanager.configs.ContributionFetchProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalContributionServiceTest {
+
+    private static final Function<InputStream, String> READ_STRING = body -> {
+        try {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    };
+
+    private final AtomicReference<String> payload = new AtomicReference<>("{\"repositories\":[]}");
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private HttpServer server;
+    private ExternalContributionService service;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/contributions", this::handle);
+        server.start();
+
+        ContributionFetchProperties properties = new ContributionFetchProperties();
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        properties.setMaxRetryBackoff(Duration.ofMillis(20));
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort())
+                .build();
+        service = new ExternalContributionService(webClient, properties, Schedulers.boundedElastic(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void returnsEmptyWhenTheBodyHashIsUnchanged() {
+        assertThat(fetchAndCommit()).isEqualTo("{\"repositories\":[]}");
+        assertThat(fetchAndCommit()).isNull();
+
+        payload.set("{\"repositories\":[{}]}");
+        assertThat(fetchAndCommit()).isEqualTo("{\"repositories\":[{}]}");
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void returnsTheBodyAgainUntilItIsCommitted() {
+        ExternalContributionService.Fetched<String> first = service.getContributions(READ_STRING).block();
+        assertThat(first).isNotNull();
+
+        ExternalContributionService.Fetched<String> second = service.getContributions(READ_STRING).block();
+        assertThat(second).isNotNull();
+        assertThat(second.body()).isEqualTo("{\"repositories\":[]}");
+
+        service.commit(second);
+        assertThat(service.getContributions(READ_STRING).block()).isNull();
+    }
+
+    @Test
+    void retriesServerErrors() {
+        failuresLeft.set(2);
+
+        assertThat(fetchAndCommit()).isEqualTo("{\"repositories\":[]}");
+        assertThat(requests).hasValue(3);
+    }
+
+    @Test
+    void doesNotRetryBodiesTheReaderRejects() {
+        assertThatThrownBy(() -> service.getContributions(body -> {
+            READ_STRING.apply(body);
+            throw new IllegalStateException("Expected a contribution summary object");
+        }).block()).hasMessageContaining("Expected a contribution summary object");
+
+        assertThat(requests).hasValue(1);
+    }
+
+    private String fetchAndCommit() {
+        ExternalContributionService.Fetched<String> fetched = service.getContributions(READ_STRING).block();
+        if (fetched == null) {
+            return null;
+        }
+        service.commit(fetched);
+        return fetched.body();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            if (failuresLeft.getAndDecrement() > 0) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            byte[] body = payload.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+}